@@ -0,0 +1,132 @@
+package com.skillbridge.lucknow.repository;
+
+import com.skillbridge.lucknow.entity.IdSequences;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Inserts per second under the statement patterns Hibernate emits for an
+ * IDENTITY id (one insert and key read-back per row) and for a pooled table
+ * generator (one sequence bump per {@link IdSequences#ALLOCATION_SIZE} rows,
+ * inserts sent in JDBC batches). Runs against in-memory H2 in MySQL mode, so
+ * it shows the per-statement overhead only; against a networked MySQL each
+ * saved statement is also a saved round trip.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IdGenerationBenchmark {
+
+    private static final int ROWS = 1000;
+    private static final int BATCH_SIZE = 50;
+
+    private Connection connection;
+    // The table generator reserves its blocks outside the inserting transaction.
+    private Connection sequenceConnection;
+
+    @Setup
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:ids;MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+        connection.setAutoCommit(false);
+        sequenceConnection = DriverManager.getConnection("jdbc:h2:mem:ids", "sa", "");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("create table identity_rows (id bigint auto_increment primary key, "
+                    + "project_id bigint not null, skill_id bigint not null, importance int not null)");
+            statement.execute("create table pooled_rows (id bigint primary key, "
+                    + "project_id bigint not null, skill_id bigint not null, importance int not null)");
+            statement.execute("create table " + IdSequences.TABLE + " (" + IdSequences.NAME_COLUMN
+                    + " varchar(255) primary key, " + IdSequences.VALUE_COLUMN + " bigint)");
+            statement.execute("insert into " + IdSequences.TABLE + " values ('pooled_rows', 0)");
+        }
+        connection.commit();
+    }
+
+    @Setup(Level.Iteration)
+    public void truncate() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("truncate table identity_rows");
+            statement.execute("truncate table pooled_rows");
+        }
+        connection.commit();
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        sequenceConnection.close();
+        connection.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public long identity() throws SQLException {
+        long lastId = 0;
+        try (PreparedStatement insert = connection.prepareStatement(
+                "insert into identity_rows (project_id, skill_id, importance) values (?, ?, ?)",
+                Statement.RETURN_GENERATED_KEYS)) {
+            for (int i = 0; i < ROWS; i++) {
+                insert.setLong(1, i / 5 + 1);
+                insert.setLong(2, i % 5 + 1);
+                insert.setInt(3, 5);
+                insert.executeUpdate();
+                try (ResultSet keys = insert.getGeneratedKeys()) {
+                    keys.next();
+                    lastId = keys.getLong(1);
+                }
+            }
+        }
+        connection.commit();
+        return lastId;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public long pooledBatched() throws SQLException {
+        long nextId = 0;
+        long blockEnd = 0;
+        try (PreparedStatement insert = connection.prepareStatement(
+                "insert into pooled_rows (id, project_id, skill_id, importance) values (?, ?, ?, ?)")) {
+            for (int i = 0; i < ROWS; i++) {
+                if (nextId == blockEnd) {
+                    blockEnd = allocate();
+                    nextId = blockEnd - IdSequences.ALLOCATION_SIZE;
+                }
+                insert.setLong(1, ++nextId);
+                insert.setLong(2, i / 5 + 1);
+                insert.setLong(3, i % 5 + 1);
+                insert.setInt(4, 5);
+                insert.addBatch();
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+        connection.commit();
+        return nextId;
+    }
+
+    private long allocate() throws SQLException {
+        String where = " where " + IdSequences.NAME_COLUMN + " = 'pooled_rows'";
+        try (PreparedStatement bump = sequenceConnection.prepareStatement("update " + IdSequences.TABLE
+                + " set " + IdSequences.VALUE_COLUMN + " = " + IdSequences.VALUE_COLUMN + " + ?" + where);
+             PreparedStatement read = sequenceConnection.prepareStatement(
+                     "select " + IdSequences.VALUE_COLUMN + " from " + IdSequences.TABLE + where)) {
+            bump.setInt(1, IdSequences.ALLOCATION_SIZE);
+            bump.executeUpdate();
+            try (ResultSet value = read.executeQuery()) {
+                value.next();
+                return value.getLong(1);
+            }
+        }
+    }
+}
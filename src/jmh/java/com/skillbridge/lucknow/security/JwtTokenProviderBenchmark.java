@@ -0,0 +1,61 @@
+package com.skillbridge.lucknow.security;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request token cost as paid by {@link JwtAuthenticationFilter}: a
+ * repeat token answered from the verified-token cache, and a token that
+ * has to be parsed and have its signature checked.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtTokenProviderBenchmark {
+
+    // Same example key as application.yml.
+    private static final String SECRET = "Y2hhbmdlLXRoaXMtc2VjcmV0LWluLXByb2QtbG9uZy1zZWNyZXQta2V5";
+
+    // More distinct tokens than the small cache below holds, so nearly every call verifies.
+    private static final int DISTINCT_TOKENS = 8192;
+
+    private JwtTokenProvider tokenProvider;
+    private JwtTokenProvider smallCacheProvider;
+    private String token;
+    private String[] tokens;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        tokenProvider = new JwtTokenProvider(SECRET, 86400000L, 10000);
+        smallCacheProvider = new JwtTokenProvider(SECRET, 86400000L, 16);
+        token = tokenProvider.generateToken(authentication("asha@x.com"), 2L, 0L);
+        tokens = new String[DISTINCT_TOKENS];
+        for (int i = 0; i < tokens.length; i++) {
+            tokens[i] = tokenProvider.generateToken(authentication("student" + i + "@x.com"), i, 0L);
+        }
+    }
+
+    @Benchmark
+    public VerifiedToken verifyRepeatToken() {
+        return tokenProvider.verify(token);
+    }
+
+    @Benchmark
+    public VerifiedToken verifyNewToken() {
+        next = (next + 1) % tokens.length;
+        return smallCacheProvider.verify(tokens[next]);
+    }
+
+    private static UsernamePasswordAuthenticationToken authentication(String email) {
+        return new UsernamePasswordAuthenticationToken(email, null,
+                List.of(new SimpleGrantedAuthority("ROLE_STUDENT")));
+    }
+}
@@ -0,0 +1,41 @@
+package com.skillbridge.lucknow.security;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BCrypt cost at the default strength used by SecurityConfig; registration
+ * pays one encode, every password login one match.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PasswordEncoderBenchmark {
+
+    @Param({"10"})
+    int strength;
+
+    private BCryptPasswordEncoder encoder;
+    private String hash;
+
+    @Setup
+    public void setUp() {
+        encoder = new BCryptPasswordEncoder(strength);
+        hash = encoder.encode("secret123");
+    }
+
+    @Benchmark
+    public String encode() {
+        return encoder.encode("secret123");
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return encoder.matches("secret123", hash);
+    }
+}
@@ -0,0 +1,94 @@
+package com.skillbridge.lucknow.service;
+
+import com.skillbridge.lucknow.dto.MatchResult;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Compares the old per-candidate HashMap result model, sorted with an
+ * unboxing comparator, against primitive scoring into a bounded heap with
+ * typed results built only for the top K.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MatchResultBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    int candidates;
+
+    @Param({"10"})
+    int limit;
+
+    private long[] studentIds;
+    private String[] names;
+    private int[] matchedCounts;
+    private double[] ratings;
+    private double[] locationScores;
+    private final int requiredCount = 5;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        studentIds = new long[candidates];
+        names = new String[candidates];
+        matchedCounts = new int[candidates];
+        ratings = new double[candidates];
+        locationScores = new double[candidates];
+        for (int i = 0; i < candidates; i++) {
+            studentIds[i] = i + 1;
+            names[i] = "Student " + i;
+            matchedCounts[i] = 1 + random.nextInt(requiredCount);
+            ratings[i] = random.nextInt(41) / 10.0 + 1.0;
+            locationScores[i] = random.nextBoolean() ? 100.0 : 0.0;
+        }
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> mapBased() {
+        List<Map<String, Object>> results = new ArrayList<>();
+        for (int i = 0; i < candidates; i++) {
+            double skillMatchPercentage = MatchingService.skillMatchPercentage(matchedCounts[i], requiredCount);
+            Map<String, Object> entry = new HashMap<>();
+            entry.put("studentId", studentIds[i]);
+            entry.put("fullName", names[i]);
+            entry.put("matchScore", MatchingService.matchScore(skillMatchPercentage, ratings[i], locationScores[i]));
+            entry.put("skillMatchPercentage", skillMatchPercentage);
+            entry.put("averageRating", ratings[i]);
+            entry.put("locationScore", locationScores[i]);
+            results.add(entry);
+        }
+        return results.stream()
+                .sorted((a, b) -> Double.compare((Double) b.get("matchScore"), (Double) a.get("matchScore")))
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<MatchResult> typedTopK() {
+        TopCandidates top = new TopCandidates(limit);
+        for (int i = 0; i < candidates; i++) {
+            double skillMatchPercentage = MatchingService.skillMatchPercentage(matchedCounts[i], requiredCount);
+            top.offer(i, studentIds[i], MatchingService.matchScore(skillMatchPercentage, ratings[i], locationScores[i]));
+        }
+        int[] ranked = top.drainBestFirst();
+        List<MatchResult> results = new ArrayList<>(ranked.length);
+        for (int i : ranked) {
+            double skillMatchPercentage = MatchingService.skillMatchPercentage(matchedCounts[i], requiredCount);
+            results.add(new MatchResult(studentIds[i], names[i],
+                    MatchingService.matchScore(skillMatchPercentage, ratings[i], locationScores[i]),
+                    skillMatchPercentage, ratings[i], locationScores[i]));
+        }
+        return results;
+    }
+}
@@ -0,0 +1,190 @@
+package com.skillbridge.lucknow.service;
+
+import com.skillbridge.lucknow.dto.CursorPage;
+import com.skillbridge.lucknow.dto.MatchResult;
+import com.skillbridge.lucknow.entity.Project;
+import com.skillbridge.lucknow.index.DenseSkillIds;
+import com.skillbridge.lucknow.index.Gazetteer;
+import com.skillbridge.lucknow.index.StudentSkillIndex;
+import com.skillbridge.lucknow.index.UserLocationIndex;
+import com.skillbridge.lucknow.repository.ProjectSkillRepository;
+import com.skillbridge.lucknow.repository.UserRepository;
+import com.skillbridge.lucknow.repository.UserSkillRepository;
+import com.skillbridge.lucknow.repository.projection.CandidateProfile;
+import com.skillbridge.lucknow.repository.projection.SkillWeight;
+import com.skillbridge.lucknow.repository.projection.UserLocation;
+import com.skillbridge.lucknow.repository.projection.UserSkillPair;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.io.ClassPathResource;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ranks synthetic student pools through {@link MatchingService} end to end:
+ * index join, profile lookup, weighted scoring and top-K selection. The
+ * repositories are in-memory stubs, so the numbers exclude database time.
+ * Uses the paged entry point because {@code matchCandidates} would only
+ * measure the result cache after the first call. Half the students live near
+ * the project, so the radius variant shows what the distance prefilter saves.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MatchingBenchmark {
+
+    private static final int SKILLS = 200;
+    private static final int REQUIRED_SKILLS = 5;
+    private static final String[] LOCATIONS = {"Lucknow", "Kanpur", "Delhi", "Noida"};
+    private static final double RADIUS_KM = 100;
+
+    @Param({"1000", "10000", "100000"})
+    int students;
+
+    @Param({"10"})
+    int limit;
+
+    private MatchingService matchingService;
+    private Project project;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        List<UserSkillPair> pairs = new ArrayList<>();
+        List<UserLocation> locations = new ArrayList<>();
+        CandidateProfile[] profiles = new CandidateProfile[students + 1];
+        for (int s = 1; s <= students; s++) {
+            int skills = 3 + random.nextInt(6);
+            for (int k = 0; k < skills; k++) {
+                // Skew towards low ids so the required skills have realistic postings.
+                long skillId = 1 + (long) (SKILLS * Math.pow(random.nextDouble(), 2));
+                pairs.add(new Pair(s, skillId, 1 + random.nextInt(5)));
+            }
+            String location = LOCATIONS[random.nextInt(LOCATIONS.length)];
+            profiles[s] = new CandidateProfile((long) s, "Student " + s, location,
+                    random.nextInt(41) / 10.0 + 1.0, (long) random.nextInt(20));
+            locations.add(new Located(s, location));
+        }
+        List<SkillWeight> required = new ArrayList<>();
+        for (int k = 1; k <= REQUIRED_SKILLS; k++) {
+            required.add(new Weight(k * 3L, 1 + random.nextInt(5)));
+        }
+
+        UserSkillRepository userSkillRepository = RepositoryStubs.stub(UserSkillRepository.class,
+                Map.of("findSkillPairsByRole", args -> pairs));
+        ProjectSkillRepository projectSkillRepository = RepositoryStubs.stub(ProjectSkillRepository.class,
+                Map.of("findSkillWeightsByProjectId", args -> required));
+        UserRepository userRepository = RepositoryStubs.stub(UserRepository.class,
+                Map.of("findCandidateProfiles", args -> {
+                    Collection<?> ids = (Collection<?>) args[0];
+                    List<CandidateProfile> found = new ArrayList<>(ids.size());
+                    for (Object id : ids) {
+                        found.add(profiles[((Long) id).intValue()]);
+                    }
+                    return found;
+                }, "findAllLocations", args -> locations));
+
+        DenseSkillIds denseSkillIds = new DenseSkillIds();
+        StudentSkillIndex studentSkillIndex = new StudentSkillIndex(userSkillRepository, denseSkillIds);
+        studentSkillIndex.rebuild();
+        MatchResultCache matchResultCache = new MatchResultCache(studentSkillIndex, 1, Duration.ofMinutes(1));
+        Gazetteer gazetteer = new Gazetteer(new ClassPathResource("geo/gazetteer.csv"), 1000);
+        gazetteer.load();
+        UserLocationIndex userLocationIndex = new UserLocationIndex(userRepository, gazetteer);
+        userLocationIndex.rebuild();
+        matchingService = new MatchingService(userRepository, projectSkillRepository, studentSkillIndex,
+                denseSkillIds, matchResultCache, gazetteer, userLocationIndex);
+
+        project = new Project();
+        project.setId(1L);
+        project.setLocation("Lucknow");
+    }
+
+    @Benchmark
+    public CursorPage<MatchResult> rankTopK() {
+        return matchingService.matchPage(project, null, limit, null);
+    }
+
+    @Benchmark
+    public CursorPage<MatchResult> rankTopKWithinRadius() {
+        return matchingService.matchPage(project, null, limit, RADIUS_KM);
+    }
+
+    private static final class Pair implements UserSkillPair {
+
+        private final Long userId;
+        private final Long skillId;
+        private final Integer proficiency;
+
+        Pair(long userId, long skillId, int proficiency) {
+            this.userId = userId;
+            this.skillId = skillId;
+            this.proficiency = proficiency;
+        }
+
+        @Override
+        public Long getUserId() {
+            return userId;
+        }
+
+        @Override
+        public Long getSkillId() {
+            return skillId;
+        }
+
+        @Override
+        public Integer getProficiency() {
+            return proficiency;
+        }
+    }
+
+    private static final class Weight implements SkillWeight {
+
+        private final Long skillId;
+        private final Integer weight;
+
+        Weight(long skillId, int weight) {
+            this.skillId = skillId;
+            this.weight = weight;
+        }
+
+        @Override
+        public Long getSkillId() {
+            return skillId;
+        }
+
+        @Override
+        public Integer getWeight() {
+            return weight;
+        }
+    }
+
+    private static final class Located implements UserLocation {
+
+        private final Long id;
+        private final String location;
+
+        Located(long id, String location) {
+            this.id = id;
+            this.location = location;
+        }
+
+        @Override
+        public Long getId() {
+            return id;
+        }
+
+        @Override
+        public String getLocation() {
+            return location;
+        }
+    }
+}
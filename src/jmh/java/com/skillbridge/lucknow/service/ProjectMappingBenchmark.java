@@ -0,0 +1,97 @@
+package com.skillbridge.lucknow.service;
+
+import com.skillbridge.lucknow.dto.ProjectResponse;
+import com.skillbridge.lucknow.entity.ProjectStatus;
+import com.skillbridge.lucknow.entity.Skill;
+import com.skillbridge.lucknow.index.SkillDictionary;
+import com.skillbridge.lucknow.repository.SkillRepository;
+import com.skillbridge.lucknow.repository.projection.ProjectSkillPair;
+import com.skillbridge.lucknow.repository.projection.ProjectSummary;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of mapping an already loaded project row and its skill ids to the
+ * response DTO, i.e. what the read endpoints pay per project on top of the
+ * queries. Skill names come from the resident dictionary.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProjectMappingBenchmark {
+
+    @Param({"3", "10"})
+    int requiredSkills;
+
+    private ProjectService projectService;
+    private ProjectSummary project;
+    private List<ProjectSkillPair> skills;
+
+    @Setup
+    public void setUp() {
+        List<Skill> known = new ArrayList<>();
+        skills = new ArrayList<>();
+        for (int i = 1; i <= requiredSkills; i++) {
+            known.add(Skill.builder().id((long) i).name("Skill " + i).build());
+            skills.add(new Pair(1L, i, 5));
+        }
+        SkillDictionary skillDictionary = new SkillDictionary(RepositoryStubs.stub(SkillRepository.class,
+                Map.of("findAll", args -> known)));
+        skillDictionary.load();
+        // toResponse only reads the dictionary.
+        projectService = new ProjectService(null, null, null, null, null, skillDictionary, null);
+
+        LocalDateTime now = LocalDateTime.now();
+        project = new ProjectSummary() {
+            public Long getId() { return 1L; }
+            public String getTitle() { return "Website"; }
+            public String getDescription() { return "Build a react site"; }
+            public String getLocation() { return "Lucknow"; }
+            public ProjectStatus getStatus() { return ProjectStatus.OPEN; }
+            public Long getBusinessOwnerId() { return 1L; }
+            public LocalDateTime getCreatedAt() { return now; }
+            public LocalDateTime getUpdatedAt() { return now; }
+        };
+    }
+
+    @Benchmark
+    public ProjectResponse toResponse() {
+        return projectService.toResponse(project, skills);
+    }
+
+    private static final class Pair implements ProjectSkillPair {
+
+        private final Long projectId;
+        private final Long skillId;
+        private final Integer importance;
+
+        Pair(long projectId, long skillId, int importance) {
+            this.projectId = projectId;
+            this.skillId = skillId;
+            this.importance = importance;
+        }
+
+        @Override
+        public Long getProjectId() {
+            return projectId;
+        }
+
+        @Override
+        public Long getSkillId() {
+            return skillId;
+        }
+
+        @Override
+        public Integer getImportance() {
+            return importance;
+        }
+    }
+}
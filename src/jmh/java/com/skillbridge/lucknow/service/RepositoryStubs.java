@@ -0,0 +1,34 @@
+package com.skillbridge.lucknow.service;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * In-memory stand-ins for Spring Data repositories so benchmarks run without
+ * a database. Only the named query methods are answered; anything else throws.
+ */
+final class RepositoryStubs {
+
+    private RepositoryStubs() {
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> T stub(Class<T> repository, Map<String, Function<Object[], Object>> methods) {
+        return (T) Proxy.newProxyInstance(repository.getClassLoader(), new Class<?>[]{repository},
+                (proxy, method, args) -> {
+                    Function<Object[], Object> answer = methods.get(method.getName());
+                    if (answer != null) {
+                        return answer.apply(args);
+                    }
+                    if (method.getDeclaringClass() == Object.class) {
+                        return switch (method.getName()) {
+                            case "hashCode" -> System.identityHashCode(proxy);
+                            case "equals" -> proxy == args[0];
+                            default -> repository.getSimpleName() + " stub";
+                        };
+                    }
+                    throw new UnsupportedOperationException(repository.getSimpleName() + "." + method.getName());
+                });
+    }
+}
@@ -0,0 +1,52 @@
+package com.skillbridge.lucknow.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Hit and miss counts of Hibernate's second-level cache regions and query
+ * cache, as collected with {@code hibernate.generate_statistics}.
+ */
+@Component
+public class EntityCacheStats {
+
+    private final Statistics statistics;
+
+    public EntityCacheStats(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("enabled", statistics.isStatisticsEnabled());
+        Map<String, Object> regions = new LinkedHashMap<>();
+        for (String name : statistics.getSecondLevelCacheRegionNames()) {
+            CacheRegionStatistics region = statistics.getCacheRegionStatistics(name);
+            regions.put(name, regionStats(region.getHitCount(), region.getMissCount(), region.getPutCount()));
+        }
+        body.put("regions", regions);
+        body.put("naturalIds", regionStats(statistics.getNaturalIdCacheHitCount(),
+                statistics.getNaturalIdCacheMissCount(), statistics.getNaturalIdCachePutCount()));
+        body.put("queries", regionStats(statistics.getQueryCacheHitCount(),
+                statistics.getQueryCacheMissCount(), statistics.getQueryCachePutCount()));
+        body.put("queriesExecuted", statistics.getQueryExecutionCount());
+        body.put("entitiesLoaded", statistics.getEntityLoadCount());
+        return body;
+    }
+
+    private static Map<String, Object> regionStats(long hits, long misses, long puts) {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("hits", hits);
+        stats.put("misses", misses);
+        stats.put("puts", puts);
+        long lookups = hits + misses;
+        stats.put("hitRate", lookups == 0 ? 0.0 : (double) hits / lookups);
+        return stats;
+    }
+}
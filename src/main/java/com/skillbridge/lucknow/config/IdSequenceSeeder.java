@@ -0,0 +1,62 @@
+package com.skillbridge.lucknow.config;
+
+import com.skillbridge.lucknow.entity.IdSequences;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Moves every id sequence past the ids already in its table. Rows written
+ * while the tables still had IDENTITY columns, or inserted by hand, would
+ * otherwise collide with the first pooled ids. Sequences are only ever
+ * raised, so a second instance starting up cannot hand out ids twice.
+ */
+@Component
+@DependsOn("entityManagerFactory")
+public class IdSequenceSeeder {
+
+    private static final Logger log = LoggerFactory.getLogger(IdSequenceSeeder.class);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public IdSequenceSeeder(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostConstruct
+    public void seed() {
+        for (String table : IdSequences.TABLES) {
+            long maxId = jdbcTemplate.queryForObject("select coalesce(max(id), 0) from " + table, Long.class);
+            if (maxId == 0) {
+                // Hibernate creates the row on first use; ids then start at 1.
+                continue;
+            }
+            // A whole block above the highest id, whichever end of the block the value denotes.
+            long floor = maxId + IdSequences.ALLOCATION_SIZE + 1;
+            int raised = jdbcTemplate.update(
+                    "update " + IdSequences.TABLE + " set " + IdSequences.VALUE_COLUMN + " = ? where "
+                            + IdSequences.NAME_COLUMN + " = ? and " + IdSequences.VALUE_COLUMN + " < ?",
+                    floor, table, floor);
+            if (raised == 0 && !exists(table)) {
+                jdbcTemplate.update(
+                        "insert into " + IdSequences.TABLE + " (" + IdSequences.NAME_COLUMN + ", "
+                                + IdSequences.VALUE_COLUMN + ") values (?, ?)",
+                        table, floor);
+                raised = 1;
+            }
+            if (raised > 0) {
+                log.debug("Id sequence {} raised to {}", table, floor);
+            }
+        }
+    }
+
+    private boolean exists(String table) {
+        Integer count = jdbcTemplate.queryForObject(
+                "select count(*) from " + IdSequences.TABLE + " where " + IdSequences.NAME_COLUMN + " = ?",
+                Integer.class, table);
+        return count != null && count > 0;
+    }
+}
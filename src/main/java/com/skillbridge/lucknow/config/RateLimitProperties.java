@@ -0,0 +1,37 @@
+package com.skillbridge.lucknow.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.List;
+
+/**
+ * Request rate limits by route, bound from {@code rate-limit} in
+ * application.yml.
+ */
+@ConfigurationProperties("rate-limit")
+public record RateLimitProperties(@DefaultValue("true") boolean enabled, List<Rule> rules) {
+
+    public enum Scope {
+        /** One bucket per client address. */
+        IP,
+        /** One bucket per authenticated user; anonymous requests are limited per address. */
+        USER
+    }
+
+    /**
+     * Requests matching {@code pattern} (a Spring path pattern) and, when
+     * given, one of {@code methods} draw from a bucket of {@code capacity}
+     * requests that refills at {@code refillPerMinute}.
+     */
+    public record Rule(String pattern,
+                       List<String> methods,
+                       @DefaultValue("IP") Scope per,
+                       int capacity,
+                       int refillPerMinute) {
+    }
+
+    public List<Rule> rules() {
+        return rules == null ? List.of() : rules;
+    }
+}
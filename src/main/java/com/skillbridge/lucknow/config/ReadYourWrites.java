@@ -0,0 +1,74 @@
+package com.skillbridge.lucknow.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Remembers which users committed a write within the sticky window, so that
+ * their reads skip a replica that may not have caught up yet. Users are
+ * identified by login email: the authenticated principal, or the name set
+ * with {@link #actingAs} where nobody is authenticated yet. Only consulted
+ * when a replica is configured.
+ */
+@Component
+public class ReadYourWrites {
+
+    private static final ThreadLocal<String> ACTING_AS = new ThreadLocal<>();
+
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReadYourWrites(@Value("${datasource.replica.sticky-window:5s}") Duration stickyWindow,
+                          @Value("${datasource.replica.sticky-max-users:100000}") long maxUsers) {
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(stickyWindow)
+                .maximumSize(maxUsers)
+                .build();
+    }
+
+    /**
+     * Runs the work on behalf of the given user, e.g. registration or the
+     * token filter's lookup of the user it is about to authenticate.
+     */
+    public static <T> T actingAs(String user, Supplier<T> work) {
+        String previous = ACTING_AS.get();
+        ACTING_AS.set(user);
+        try {
+            return work.get();
+        } finally {
+            if (previous == null) {
+                ACTING_AS.remove();
+            } else {
+                ACTING_AS.set(previous);
+            }
+        }
+    }
+
+    static String currentUser() {
+        String acting = ACTING_AS.get();
+        if (acting != null) {
+            return acting;
+        }
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+
+    void recordWrite(String user) {
+        recentWriters.put(user, Boolean.TRUE);
+    }
+
+    boolean recentlyWrote(String user) {
+        return recentWriters.getIfPresent(user) != null;
+    }
+}
@@ -0,0 +1,127 @@
+package com.skillbridge.lucknow.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Sends connections of read-only transactions to the replica and all others
+ * to the primary. Reads also go to the primary for users who wrote within
+ * the sticky window, and for everyone while the replica is refusing
+ * connections. Must sit behind a LazyConnectionDataSourceProxy so that the
+ * connection is fetched once the transaction's read-only flag is set.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+    enum Target {
+        PRIMARY, REPLICA
+    }
+
+    private static final Object WRITE_TRACKED = new Object();
+
+    private final DataSource primary;
+    private final ReadYourWrites readYourWrites;
+    private final long retryAfterNanos;
+
+    // System.nanoTime() before which the replica is skipped; 0 while it is healthy.
+    private volatile long replicaDownUntil;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, ReadYourWrites readYourWrites,
+                                    Duration retryAfter) {
+        this.primary = primary;
+        this.readYourWrites = readYourWrites;
+        this.retryAfterNanos = retryAfter.toNanos();
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String user = ReadYourWrites.currentUser();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            trackWrite(user);
+            return Target.PRIMARY;
+        }
+        if (user != null && readYourWrites.recentlyWrote(user)) {
+            return Target.PRIMARY;
+        }
+        long downUntil = replicaDownUntil;
+        if (downUntil != 0 && System.nanoTime() - downUntil < 0) {
+            return Target.PRIMARY;
+        }
+        return Target.REPLICA;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        DataSource target = determineTargetDataSource();
+        if (target == primary) {
+            return target.getConnection();
+        }
+        try {
+            Connection connection = target.getConnection();
+            replicaDownUntil = 0;
+            return connection;
+        } catch (SQLException ex) {
+            replicaFailed(ex);
+            return primary.getConnection();
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        DataSource target = determineTargetDataSource();
+        if (target == primary) {
+            return target.getConnection(username, password);
+        }
+        try {
+            Connection connection = target.getConnection(username, password);
+            replicaDownUntil = 0;
+            return connection;
+        } catch (SQLException ex) {
+            replicaFailed(ex);
+            return primary.getConnection(username, password);
+        }
+    }
+
+    private void replicaFailed(SQLException ex) {
+        if (replicaDownUntil == 0) {
+            log.warn("Replica unavailable, reading from the primary for {} s: {}",
+                    Duration.ofNanos(retryAfterNanos).toSeconds(), ex.getMessage());
+        }
+        replicaDownUntil = System.nanoTime() + retryAfterNanos;
+    }
+
+    /**
+     * Makes the user's reads sticky to the primary once the surrounding
+     * read-write transaction commits; registered once per transaction.
+     */
+    private void trackWrite(String user) {
+        if (user == null || !TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(WRITE_TRACKED)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(WRITE_TRACKED, user);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                readYourWrites.recordWrite(user);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(WRITE_TRACKED);
+            }
+        });
+    }
+}
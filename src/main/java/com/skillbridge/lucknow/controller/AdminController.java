@@ -0,0 +1,72 @@
+package com.skillbridge.lucknow.controller;
+
+import com.skillbridge.lucknow.config.EntityCacheStats;
+import com.skillbridge.lucknow.index.ProjectSearchIndex;
+import com.skillbridge.lucknow.security.CustomUserDetailsService;
+import com.skillbridge.lucknow.security.JwtTokenProvider;
+import com.skillbridge.lucknow.service.AuthService;
+import com.skillbridge.lucknow.service.MatchResultCache;
+import com.skillbridge.lucknow.service.RatingSummaryService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/admin")
+@PreAuthorize("hasRole('ADMIN')")
+public class AdminController {
+
+    private final RatingSummaryService ratingSummaryService;
+    private final MatchResultCache matchResultCache;
+    private final ProjectSearchIndex projectSearchIndex;
+    private final EntityCacheStats entityCacheStats;
+    private final JwtTokenProvider tokenProvider;
+    private final AuthService authService;
+    private final CustomUserDetailsService userDetailsService;
+
+    public AdminController(RatingSummaryService ratingSummaryService,
+                           MatchResultCache matchResultCache,
+                           ProjectSearchIndex projectSearchIndex,
+                           EntityCacheStats entityCacheStats,
+                           JwtTokenProvider tokenProvider,
+                           AuthService authService,
+                           CustomUserDetailsService userDetailsService) {
+        this.ratingSummaryService = ratingSummaryService;
+        this.matchResultCache = matchResultCache;
+        this.projectSearchIndex = projectSearchIndex;
+        this.entityCacheStats = entityCacheStats;
+        this.tokenProvider = tokenProvider;
+        this.authService = authService;
+        this.userDetailsService = userDetailsService;
+    }
+
+    @PostMapping("/ratings/rebuild")
+    public ResponseEntity<Map<String, Object>> rebuildRatings() {
+        return ResponseEntity.ok(Map.of("rebuilt", ratingSummaryService.rebuild()));
+    }
+
+    @PostMapping("/search/rebuild")
+    public ResponseEntity<Map<String, Object>> rebuildSearchIndex() {
+        return ResponseEntity.ok(Map.of("indexed", projectSearchIndex.rebuild()));
+    }
+
+    @PostMapping("/users/{id}/revoke-tokens")
+    public ResponseEntity<Map<String, Object>> revokeTokens(@PathVariable Long id) {
+        return ResponseEntity.ok(Map.of("userId", id, "tokenVersion", authService.revokeTokens(id)));
+    }
+
+    @GetMapping("/cache-stats")
+    public ResponseEntity<Map<String, Object>> cacheStats() {
+        return ResponseEntity.ok(Map.of(
+                "matches", matchResultCache.stats(),
+                "entities", entityCacheStats.stats(),
+                "tokens", tokenProvider.cacheStats(),
+                "users", userDetailsService.cacheStats()));
+    }
+}
@@ -1,34 +1,66 @@
 package com.skillbridge.lucknow.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skillbridge.lucknow.dto.BulkProjectResponse;
+import com.skillbridge.lucknow.dto.CursorPage;
+import com.skillbridge.lucknow.dto.MatchResult;
+import com.skillbridge.lucknow.dto.ProjectFilterResponse;
+import com.skillbridge.lucknow.dto.ProjectRecommendation;
 import com.skillbridge.lucknow.dto.ProjectRequest;
 import com.skillbridge.lucknow.dto.ProjectResponse;
+import com.skillbridge.lucknow.dto.ProjectSearchHit;
 import com.skillbridge.lucknow.entity.Project;
+import com.skillbridge.lucknow.entity.ProjectStatus;
 import com.skillbridge.lucknow.exception.ResourceNotFoundException;
 import com.skillbridge.lucknow.repository.ProjectRepository;
 import com.skillbridge.lucknow.service.MatchingService;
 import com.skillbridge.lucknow.service.ProjectService;
+import com.skillbridge.lucknow.service.ProjectVersions;
+import com.skillbridge.lucknow.service.RecommendationService;
 import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
 
 @RestController
 @RequestMapping("/api/projects")
 public class ProjectController {
 
+    private static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    private static final int STREAM_PAGE_SIZE = 500;
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     private final ProjectService projectService;
     private final ProjectRepository projectRepository;
     private final MatchingService matchingService;
+    private final RecommendationService recommendationService;
+    private final ProjectVersions projectVersions;
+    private final ObjectMapper objectMapper;
 
     public ProjectController(ProjectService projectService,
                              ProjectRepository projectRepository,
-                             MatchingService matchingService) {
+                             MatchingService matchingService,
+                             RecommendationService recommendationService,
+                             ProjectVersions projectVersions,
+                             ObjectMapper objectMapper) {
         this.projectService = projectService;
         this.projectRepository = projectRepository;
         this.matchingService = matchingService;
+        this.recommendationService = recommendationService;
+        this.projectVersions = projectVersions;
+        this.objectMapper = objectMapper;
     }
 
     @PostMapping
@@ -37,23 +69,148 @@ public class ProjectController {
         return ResponseEntity.ok(projectService.createProject(request));
     }
 
+    @PostMapping("/bulk")
+    @PreAuthorize("hasRole('BUSINESS')")
+    public ResponseEntity<BulkProjectResponse> createBulk(@RequestBody List<ProjectRequest> requests) {
+        return ResponseEntity.ok(projectService.createProjects(requests));
+    }
+
+    /**
+     * One newest-first page of open projects. The body stays the plain list
+     * it always was; the cursor of the following page, if any, is sent in
+     * the {@value #NEXT_CURSOR_HEADER} header and as a {@code rel="next"} link.
+     */
     @GetMapping("/open")
-    public ResponseEntity<List<ProjectResponse>> listOpen() {
-        return ResponseEntity.ok(projectService.listOpenProjects());
+    public ResponseEntity<List<ProjectResponse>> listOpen(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        String etag = projectVersions.openSetTag();
+        if (matches(ifNoneMatch, etag)) {
+            return notModified(etag);
+        }
+        CursorPage<ProjectResponse> page = projectService.listOpenProjects(cursor, size);
+        ResponseEntity.BodyBuilder response = revalidated(etag);
+        if (page.getNextCursor() != null) {
+            String next = ServletUriComponentsBuilder.fromCurrentRequest()
+                    .replaceQueryParam("cursor", page.getNextCursor())
+                    .toUriString();
+            response.header(NEXT_CURSOR_HEADER, page.getNextCursor())
+                    .header(HttpHeaders.LINK, "<" + next + ">; rel=\"next\"");
+        }
+        return response.body(page.getItems());
+    }
+
+    @GetMapping("/filter")
+    public ResponseEntity<ProjectFilterResponse> filter(
+            @RequestParam(required = false) ProjectStatus status,
+            @RequestParam(required = false) List<String> anySkill,
+            @RequestParam(required = false) List<String> allSkill,
+            @RequestParam(required = false) String location,
+            @RequestParam(required = false) Long ownerId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdAfter,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(projectService.filterProjects(
+                status, anySkill, allSkill, location, ownerId, createdAfter, cursor, size));
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<List<ProjectSearchHit>> search(@RequestParam(required = false) String q,
+                                                         @RequestParam(required = false) List<String> skill,
+                                                         @RequestParam(required = false) String location,
+                                                         @RequestParam(defaultValue = "OPEN") ProjectStatus status,
+                                                         @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(projectService.searchProjects(q, skill, location, status, limit));
+    }
+
+    @GetMapping("/recommended")
+    @PreAuthorize("hasRole('STUDENT')")
+    public ResponseEntity<List<ProjectRecommendation>> recommended(@RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(recommendationService.recommendForCurrentStudent(limit));
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<ProjectResponse> getById(@PathVariable Long id) {
-        return ResponseEntity.ok(projectService.getProject(id));
+    public ResponseEntity<ProjectResponse> getById(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        String known = projectVersions.knownTag(id);
+        if (known != null && matches(ifNoneMatch, known)) {
+            return notModified(known);
+        }
+        long generation = projectVersions.generation();
+        ProjectResponse project = projectService.getProject(id);
+        String etag = projectVersions.tag(id, generation, project.getUpdatedAt());
+        if (matches(ifNoneMatch, etag)) {
+            return notModified(etag);
+        }
+        return revalidated(etag).body(project);
     }
 
     @GetMapping("/{id}/matches")
     @PreAuthorize("hasRole('BUSINESS') or hasRole('ADMIN')")
-    public ResponseEntity<List<Map<String, Object>>> getMatches(@PathVariable Long id,
-                                                                @RequestParam(defaultValue = "10") int limit) {
-        Project project = projectRepository.findById(id)
+    public ResponseEntity<List<MatchResult>> getMatches(@PathVariable Long id,
+                                                        @RequestParam(defaultValue = "10") int limit,
+                                                        @RequestParam(required = false) Double withinKm) {
+        return ResponseEntity.ok(matchingService.matchCandidates(findProject(id), limit, withinKm));
+    }
+
+    @GetMapping("/{id}/matches/page")
+    @PreAuthorize("hasRole('BUSINESS') or hasRole('ADMIN')")
+    public ResponseEntity<CursorPage<MatchResult>> getMatchPage(@PathVariable Long id,
+                                                                @RequestParam(required = false) String cursor,
+                                                                @RequestParam(defaultValue = "20") int size,
+                                                                @RequestParam(required = false) Double withinKm) {
+        return ResponseEntity.ok(matchingService.matchPage(findProject(id), cursor, size, withinKm));
+    }
+
+    @GetMapping("/{id}/matches/stream")
+    @PreAuthorize("hasRole('BUSINESS') or hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> streamMatches(@PathVariable Long id,
+                                                               @RequestParam(required = false) String cursor,
+                                                               @RequestParam(required = false) Double withinKm) {
+        Iterator<List<MatchResult>> pages =
+                matchingService.matchPages(findProject(id), cursor, STREAM_PAGE_SIZE, withinKm);
+        StreamingResponseBody body = (OutputStream out) -> {
+            while (pages.hasNext()) {
+                for (MatchResult result : pages.next()) {
+                    out.write(objectMapper.writeValueAsBytes(result));
+                    out.write('\n');
+                }
+                out.flush();
+            }
+        };
+        return ResponseEntity.ok().contentType(APPLICATION_NDJSON).body(body);
+    }
+
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // no-cache lets clients store the response but makes them revalidate it every time.
+    private static ResponseEntity.BodyBuilder revalidated(String etag) {
+        return ResponseEntity.ok().eTag(etag).cacheControl(CacheControl.noCache());
+    }
+
+    private static <T> ResponseEntity<T> notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(CacheControl.noCache()).build();
+    }
+
+    private Project findProject(Long id) {
+        return projectRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Project not found"));
-        return ResponseEntity.ok(matchingService.matchCandidates(project, limit));
     }
 }
 
@@ -0,0 +1,28 @@
+package com.skillbridge.lucknow.controller;
+
+import com.skillbridge.lucknow.dto.RatingSummaryResponse;
+import com.skillbridge.lucknow.entity.UserRatingSummary;
+import com.skillbridge.lucknow.service.RatingSummaryService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/users")
+public class UserController {
+
+    private final RatingSummaryService ratingSummaryService;
+
+    public UserController(RatingSummaryService ratingSummaryService) {
+        this.ratingSummaryService = ratingSummaryService;
+    }
+
+    @GetMapping("/{id}/rating")
+    public ResponseEntity<RatingSummaryResponse> getRating(@PathVariable Long id) {
+        UserRatingSummary summary = ratingSummaryService.getSummary(id);
+        return ResponseEntity.ok(new RatingSummaryResponse(
+                id, summary.getAverageRating(), summary.getRatingCount()));
+    }
+}
@@ -0,0 +1,31 @@
+package com.skillbridge.lucknow.dto;
+
+import java.util.List;
+
+public class BulkProjectResponse {
+
+    private final int created;
+    private final int invalid;
+    private final List<BulkProjectResult> results;
+
+    public BulkProjectResponse(List<BulkProjectResult> results) {
+        this.results = results;
+        this.created = (int) results.stream().filter(r -> r.getStatus() == BulkProjectResult.Status.CREATED).count();
+        this.invalid = results.size() - created;
+    }
+
+    public int getCreated() {
+        return created;
+    }
+
+    public int getInvalid() {
+        return invalid;
+    }
+
+    /**
+     * One result per requested project, in request order.
+     */
+    public List<BulkProjectResult> getResults() {
+        return results;
+    }
+}
@@ -0,0 +1,50 @@
+package com.skillbridge.lucknow.dto;
+
+import java.util.Map;
+
+public class BulkProjectResult {
+
+    public enum Status {
+        CREATED,
+        INVALID
+    }
+
+    private final int index;
+    private final Status status;
+    private final ProjectResponse project;
+    private final Map<String, String> errors;
+
+    private BulkProjectResult(int index, Status status, ProjectResponse project, Map<String, String> errors) {
+        this.index = index;
+        this.status = status;
+        this.project = project;
+        this.errors = errors;
+    }
+
+    public static BulkProjectResult created(int index, ProjectResponse project) {
+        return new BulkProjectResult(index, Status.CREATED, project, null);
+    }
+
+    public static BulkProjectResult invalid(int index, Map<String, String> errors) {
+        return new BulkProjectResult(index, Status.INVALID, null, errors);
+    }
+
+    /**
+     * Position of the item in the request.
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public ProjectResponse getProject() {
+        return project;
+    }
+
+    public Map<String, String> getErrors() {
+        return errors;
+    }
+}
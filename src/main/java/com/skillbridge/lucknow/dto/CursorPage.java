@@ -0,0 +1,33 @@
+package com.skillbridge.lucknow.dto;
+
+import java.util.List;
+
+public class CursorPage<T> {
+
+    private List<T> items;
+    private String nextCursor;
+
+    public CursorPage(List<T> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    public void setItems(List<T> items) {
+        this.items = items;
+    }
+
+    /**
+     * Opaque token for the following page, or null when this is the last one.
+     */
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+}
@@ -0,0 +1,49 @@
+package com.skillbridge.lucknow.dto;
+
+public class MatchResult {
+
+    private final Long studentId;
+    private final String fullName;
+    private final double matchScore;
+    private final double skillMatchPercentage;
+    private final double averageRating;
+    private final double locationScore;
+
+    public MatchResult(Long studentId,
+                       String fullName,
+                       double matchScore,
+                       double skillMatchPercentage,
+                       double averageRating,
+                       double locationScore) {
+        this.studentId = studentId;
+        this.fullName = fullName;
+        this.matchScore = matchScore;
+        this.skillMatchPercentage = skillMatchPercentage;
+        this.averageRating = averageRating;
+        this.locationScore = locationScore;
+    }
+
+    public Long getStudentId() {
+        return studentId;
+    }
+
+    public String getFullName() {
+        return fullName;
+    }
+
+    public double getMatchScore() {
+        return matchScore;
+    }
+
+    public double getSkillMatchPercentage() {
+        return skillMatchPercentage;
+    }
+
+    public double getAverageRating() {
+        return averageRating;
+    }
+
+    public double getLocationScore() {
+        return locationScore;
+    }
+}
@@ -0,0 +1,47 @@
+package com.skillbridge.lucknow.dto;
+
+import java.util.List;
+import java.util.Map;
+
+public class ProjectFilterResponse {
+
+    private final List<ProjectResponse> items;
+    private final String nextCursor;
+    private final Long total;
+    private final Map<String, Map<String, Long>> facets;
+
+    public ProjectFilterResponse(List<ProjectResponse> items, String nextCursor, Long total,
+                                 Map<String, Map<String, Long>> facets) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+        this.total = total;
+        this.facets = facets;
+    }
+
+    public List<ProjectResponse> getItems() {
+        return items;
+    }
+
+    /**
+     * Opaque token for the following page, or null when this is the last one.
+     */
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    /**
+     * Number of projects matching the filter across all pages; only counted
+     * for the first page, null on the pages reached through a cursor.
+     */
+    public Long getTotal() {
+        return total;
+    }
+
+    /**
+     * Match counts by facet ("status", "location", "skill") and value, most
+     * frequent first. Like the total, null on pages after the first.
+     */
+    public Map<String, Map<String, Long>> getFacets() {
+        return facets;
+    }
+}
@@ -0,0 +1,49 @@
+package com.skillbridge.lucknow.dto;
+
+public class ProjectRecommendation {
+
+    private final Long projectId;
+    private final String title;
+    private final String location;
+    private final double matchScore;
+    private final double skillMatchPercentage;
+    private final double locationScore;
+
+    public ProjectRecommendation(Long projectId,
+                                 String title,
+                                 String location,
+                                 double matchScore,
+                                 double skillMatchPercentage,
+                                 double locationScore) {
+        this.projectId = projectId;
+        this.title = title;
+        this.location = location;
+        this.matchScore = matchScore;
+        this.skillMatchPercentage = skillMatchPercentage;
+        this.locationScore = locationScore;
+    }
+
+    public Long getProjectId() {
+        return projectId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    public double getMatchScore() {
+        return matchScore;
+    }
+
+    public double getSkillMatchPercentage() {
+        return skillMatchPercentage;
+    }
+
+    public double getLocationScore() {
+        return locationScore;
+    }
+}
@@ -14,6 +14,7 @@ public class ProjectResponse {
     private ProjectStatus status;
     private Long businessOwnerId;
     private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
     private List<String> requiredSkills;
 
     public Long getId() {
@@ -72,6 +73,14 @@ public class ProjectResponse {
         this.createdAt = createdAt;
     }
 
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
     public List<String> getRequiredSkills() {
         return requiredSkills;
     }
@@ -0,0 +1,43 @@
+package com.skillbridge.lucknow.dto;
+
+import com.skillbridge.lucknow.entity.ProjectStatus;
+
+public class ProjectSearchHit {
+
+    private final Long projectId;
+    private final String title;
+    private final String location;
+    private final ProjectStatus status;
+    private final double score;
+
+    public ProjectSearchHit(Long projectId, String title, String location, ProjectStatus status, double score) {
+        this.projectId = projectId;
+        this.title = title;
+        this.location = location;
+        this.status = status;
+        this.score = score;
+    }
+
+    public Long getProjectId() {
+        return projectId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    public ProjectStatus getStatus() {
+        return status;
+    }
+
+    /**
+     * Relevance to the query text; only comparable within one result list.
+     */
+    public double getScore() {
+        return score;
+    }
+}
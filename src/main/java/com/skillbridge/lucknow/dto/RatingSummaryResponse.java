@@ -0,0 +1,38 @@
+package com.skillbridge.lucknow.dto;
+
+public class RatingSummaryResponse {
+
+    private Long userId;
+    private double averageRating;
+    private long reviewCount;
+
+    public RatingSummaryResponse(Long userId, double averageRating, long reviewCount) {
+        this.userId = userId;
+        this.averageRating = averageRating;
+        this.reviewCount = reviewCount;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public double getAverageRating() {
+        return averageRating;
+    }
+
+    public void setAverageRating(double averageRating) {
+        this.averageRating = averageRating;
+    }
+
+    public long getReviewCount() {
+        return reviewCount;
+    }
+
+    public void setReviewCount(long reviewCount) {
+        this.reviewCount = reviewCount;
+    }
+}
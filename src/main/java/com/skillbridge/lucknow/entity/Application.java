@@ -17,7 +17,10 @@ import java.time.LocalDateTime;
 public class Application {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "applications_id")
+    @TableGenerator(name = "applications_id", table = IdSequences.TABLE, pkColumnName = IdSequences.NAME_COLUMN,
+            valueColumnName = IdSequences.VALUE_COLUMN, pkColumnValue = "applications",
+            allocationSize = IdSequences.ALLOCATION_SIZE)
     private Long id;
 
     @ManyToOne
@@ -0,0 +1,29 @@
+package com.skillbridge.lucknow.entity;
+
+import java.util.List;
+
+/**
+ * Shared settings of the table-backed id generators. Each entity draws ids
+ * from its own row of {@link #TABLE}, {@link #ALLOCATION_SIZE} at a time, so
+ * Hibernate knows ids before inserting and can batch the inserts; IDENTITY
+ * columns would force one round trip per row.
+ */
+public final class IdSequences {
+
+    public static final String TABLE = "id_sequences";
+    public static final String NAME_COLUMN = "sequence_name";
+    public static final String VALUE_COLUMN = "next_val";
+    public static final int ALLOCATION_SIZE = 50;
+
+    /**
+     * Tables with a pooled id; each row of {@link #TABLE} is named after its
+     * table. Skills keep their IDENTITY column because they are inserted by
+     * an upsert that never sees an id.
+     */
+    public static final List<String> TABLES = List.of(
+            "applications", "business_details", "colleges", "payments", "projects",
+            "project_skills", "reviews", "roles", "users", "user_skills");
+
+    private IdSequences() {
+    }
+}
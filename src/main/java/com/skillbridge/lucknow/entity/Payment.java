@@ -18,7 +18,10 @@ import java.time.LocalDateTime;
 public class Payment {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "payments_id")
+    @TableGenerator(name = "payments_id", table = IdSequences.TABLE, pkColumnName = IdSequences.NAME_COLUMN,
+            valueColumnName = IdSequences.VALUE_COLUMN, pkColumnValue = "payments",
+            allocationSize = IdSequences.ALLOCATION_SIZE)
     private Long id;
 
     @ManyToOne
@@ -1,5 +1,6 @@
 package com.skillbridge.lucknow.entity;
 
+import com.skillbridge.lucknow.listener.ProjectListener;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -11,7 +12,15 @@ import java.util.HashSet;
 import java.util.Set;
 
 @Entity
-@Table(name = "projects")
+// Each serves a newest-first keyset listing, by status, owner or location, without a sort.
+@Table(name = "projects", indexes = {
+        @Index(name = "idx_projects_status_created", columnList = "status, created_at, id"),
+        @Index(name = "idx_projects_owner_status_created", columnList = "business_id, status, created_at, id"),
+        @Index(name = "idx_projects_location_status_created", columnList = "location, status, created_at, id"),
+        // Serves the count and latest change of a status, which tag the open listing.
+        @Index(name = "idx_projects_status_updated", columnList = "status, updated_at")
+})
+@EntityListeners(ProjectListener.class)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -19,7 +28,10 @@ import java.util.Set;
 public class Project {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "projects_id")
+    @TableGenerator(name = "projects_id", table = IdSequences.TABLE, pkColumnName = IdSequences.NAME_COLUMN,
+            valueColumnName = IdSequences.VALUE_COLUMN, pkColumnValue = "projects",
+            allocationSize = IdSequences.ALLOCATION_SIZE)
     private Long id;
 
     @Column(nullable = false, length = 150)
@@ -49,5 +61,31 @@ public class Project {
 
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+
+    // Set once the project is persisted in this persistence context; its row is then written with
+    // the current updatedAt anyway, so required-skill rows added alongside need not touch it.
+    @Transient
+    private boolean inserting;
+
+    @PrePersist
+    void onPersist() {
+        inserting = true;
+    }
+
+    // Entity tags are derived from updatedAt, so every update of the row must move it.
+    @PreUpdate
+    void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * Marks the project changed when one of its required-skill rows is
+     * written, so its updatedAt and entity tags move with its skills.
+     */
+    public void touch() {
+        if (!inserting) {
+            updatedAt = LocalDateTime.now();
+        }
+    }
 }
 
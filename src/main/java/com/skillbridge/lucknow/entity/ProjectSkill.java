@@ -1,5 +1,6 @@
 package com.skillbridge.lucknow.entity;
 
+import com.skillbridge.lucknow.listener.ProjectSkillListener;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -7,7 +8,12 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "project_skills")
+// Skill filters probe (project_id, skill_id); skill facets and lookups by skill scan (skill_id, project_id).
+@Table(name = "project_skills", indexes = {
+        @Index(name = "idx_project_skills_project_skill", columnList = "project_id, skill_id"),
+        @Index(name = "idx_project_skills_skill_project", columnList = "skill_id, project_id")
+})
+@EntityListeners(ProjectSkillListener.class)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -15,7 +21,10 @@ import lombok.NoArgsConstructor;
 public class ProjectSkill {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "project_skills_id")
+    @TableGenerator(name = "project_skills_id", table = IdSequences.TABLE, pkColumnName = IdSequences.NAME_COLUMN,
+            valueColumnName = IdSequences.VALUE_COLUMN, pkColumnValue = "project_skills",
+            allocationSize = IdSequences.ALLOCATION_SIZE)
     private Long id;
 
     @ManyToOne
@@ -28,5 +37,24 @@ public class ProjectSkill {
 
     @Column(nullable = false)
     private int importance; // 1-5 scale
+
+    public void setSkill(Skill skill) {
+        this.skill = skill;
+        touchProject();
+    }
+
+    public void setImportance(int importance) {
+        this.importance = importance;
+        touchProject();
+    }
+
+    // Runs before the flush, unlike @PreUpdate, so the project's change is flushed with this row.
+    @PrePersist
+    @PreRemove
+    void touchProject() {
+        if (project != null) {
+            project.touch();
+        }
+    }
 }
 
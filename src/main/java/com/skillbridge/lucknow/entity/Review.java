@@ -1,5 +1,6 @@
 package com.skillbridge.lucknow.entity;
 
+import com.skillbridge.lucknow.listener.ReviewListener;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -10,6 +11,7 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "reviews")
+@EntityListeners(ReviewListener.class)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -17,7 +19,10 @@ import java.time.LocalDateTime;
 public class Review {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "reviews_id")
+    @TableGenerator(name = "reviews_id", table = IdSequences.TABLE, pkColumnName = IdSequences.NAME_COLUMN,
+            valueColumnName = IdSequences.VALUE_COLUMN, pkColumnValue = "reviews",
+            allocationSize = IdSequences.ALLOCATION_SIZE)
     private Long id;
 
     @ManyToOne
@@ -1,16 +1,23 @@
 package com.skillbridge.lucknow.entity;
 
+import com.skillbridge.lucknow.listener.UserListener;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
 
 @Entity
-@Table(name = "users")
+// Lets the token version reload read only the few users whose tokens were ever revoked.
+@Table(name = "users", indexes = @Index(name = "idx_users_token_version", columnList = "token_version"))
+@EntityListeners(UserListener.class)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -18,7 +25,10 @@ import java.util.Set;
 public class User {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "users_id")
+    @TableGenerator(name = "users_id", table = IdSequences.TABLE, pkColumnName = IdSequences.NAME_COLUMN,
+            valueColumnName = IdSequences.VALUE_COLUMN, pkColumnValue = "users",
+            allocationSize = IdSequences.ALLOCATION_SIZE)
     private Long id;
 
     @Column(nullable = false, unique = true, length = 100)
@@ -36,7 +46,15 @@ public class User {
     @Column(length = 100)
     private String location;
 
+    // Tokens carry the version they were issued at; bumping it revokes all of them.
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private long tokenVersion = 0;
+
+    // Read on every authenticated request; the cached id set resolves against the Role cache.
     @ManyToMany(fetch = FetchType.EAGER)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "user-roles")
     @JoinTable(
             name = "user_roles",
             joinColumns = @JoinColumn(name = "user_id"),
@@ -51,5 +69,31 @@ public class User {
 
     @OneToOne(mappedBy = "user", cascade = CascadeType.ALL)
     private BusinessDetail businessDetail;
+
+    // Set by a role change until the update is flushed; the user listener then re-indexes the user's skills.
+    @Transient
+    private boolean rolesChanged;
+
+    @PostUpdate
+    void onUpdate() {
+        rolesChanged = false;
+    }
+
+    // Read-only, so every role change goes through setRoles.
+    public Set<Role> getRoles() {
+        return Collections.unmodifiableSet(roles);
+    }
+
+    /**
+     * Replaces the user's roles. Tokens carry the roles they were issued
+     * with, so changing a saved user's roles also revokes their tokens.
+     */
+    public void setRoles(Set<Role> roles) {
+        if (id != null && !this.roles.equals(roles)) {
+            tokenVersion++;
+            rolesChanged = true;
+        }
+        this.roles = new HashSet<>(roles);
+    }
 }
 
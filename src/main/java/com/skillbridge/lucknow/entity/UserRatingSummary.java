@@ -0,0 +1,34 @@
+package com.skillbridge.lucknow.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "user_rating_summaries")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserRatingSummary {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(nullable = false)
+    private long ratingSum;
+
+    @Column(nullable = false)
+    private long ratingCount;
+
+    private LocalDateTime lastReviewAt;
+
+    public double getAverageRating() {
+        return ratingCount == 0 ? 0.0 : (double) ratingSum / ratingCount;
+    }
+}
@@ -1,5 +1,6 @@
 package com.skillbridge.lucknow.entity;
 
+import com.skillbridge.lucknow.listener.UserSkillListener;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -8,6 +9,7 @@ import lombok.NoArgsConstructor;
 
 @Entity
 @Table(name = "user_skills")
+@EntityListeners(UserSkillListener.class)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -15,7 +17,10 @@ import lombok.NoArgsConstructor;
 public class UserSkill {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "user_skills_id")
+    @TableGenerator(name = "user_skills_id", table = IdSequences.TABLE, pkColumnName = IdSequences.NAME_COLUMN,
+            valueColumnName = IdSequences.VALUE_COLUMN, pkColumnValue = "user_skills",
+            allocationSize = IdSequences.ALLOCATION_SIZE)
     private Long id;
 
     @ManyToOne
@@ -28,5 +33,17 @@ public class UserSkill {
 
     @Column(nullable = false)
     private int proficiency; // 1-5 scale
+
+    // The skill as last read from or written to the database, so a reassigned row can be moved in the
+    // student index. Entity listeners run before these callbacks and still see the previous value.
+    @Transient
+    private Long persistedSkillId;
+
+    @PostLoad
+    @PostPersist
+    @PostUpdate
+    void rememberSkill() {
+        persistedSkillId = skill.getId();
+    }
 }
 
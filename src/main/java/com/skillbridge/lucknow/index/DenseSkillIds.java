@@ -0,0 +1,116 @@
+package com.skillbridge.lucknow.index;
+
+import com.skillbridge.lucknow.repository.projection.SkillWeight;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Maps {@code Skill.id} values onto a dense {@code 0..n-1} range so skills can
+ * index arrays, and packs (dense id, weight) pairs into single {@code int}s.
+ * A packed vector sorted ascending is therefore sorted by dense skill id.
+ */
+@Component
+public class DenseSkillIds {
+
+    public static final int MAX_WEIGHT = 5;
+    private static final int WEIGHT_BITS = 3;
+    private static final int WEIGHT_MASK = (1 << WEIGHT_BITS) - 1;
+
+    private final ConcurrentHashMap<Long, Integer> denseBySkill = new ConcurrentHashMap<>();
+    private volatile long[] skillByDense = new long[64];
+    private int next;
+
+    public int denseId(long skillId) {
+        Integer dense = denseBySkill.get(skillId);
+        return dense != null ? dense : assign(skillId);
+    }
+
+    public long skillId(int denseId) {
+        return skillByDense[denseId];
+    }
+
+    /**
+     * Packs (skill id, weight) rows into a sorted vector, keeping the highest
+     * weight when a skill repeats.
+     */
+    public int[] vector(List<SkillWeight> weights) {
+        int[] packed = new int[weights.size()];
+        for (int i = 0; i < packed.length; i++) {
+            SkillWeight weight = weights.get(i);
+            packed[i] = pack(denseId(weight.getSkillId()), weight.getWeight());
+        }
+        return sortedDistinct(packed);
+    }
+
+    public static int totalWeight(int[] vector) {
+        int total = 0;
+        for (int entry : vector) {
+            total += weightOf(entry);
+        }
+        return total;
+    }
+
+    static int pack(int denseId, int weight) {
+        return (denseId << WEIGHT_BITS) | clampWeight(weight);
+    }
+
+    static int clampWeight(int weight) {
+        return Math.max(1, Math.min(weight, MAX_WEIGHT));
+    }
+
+    static int denseOf(int packed) {
+        return packed >>> WEIGHT_BITS;
+    }
+
+    static int weightOf(int packed) {
+        return packed & WEIGHT_MASK;
+    }
+
+    static int[] sortedDistinct(int[] packed) {
+        Arrays.sort(packed);
+        int k = 0;
+        for (int i = 0; i < packed.length; i++) {
+            // Equal dense ids sort by weight, so the last one wins.
+            if (k > 0 && denseOf(packed[k - 1]) == denseOf(packed[i])) {
+                packed[k - 1] = packed[i];
+            } else {
+                packed[k++] = packed[i];
+            }
+        }
+        return k == packed.length ? packed : Arrays.copyOf(packed, k);
+    }
+
+    private synchronized int assign(long skillId) {
+        Integer existing = denseBySkill.get(skillId);
+        if (existing != null) {
+            return existing;
+        }
+        int dense = next++;
+        if (dense == skillByDense.length) {
+            skillByDense = Arrays.copyOf(skillByDense, dense * 2);
+        }
+        skillByDense[dense] = skillId;
+        denseBySkill.put(skillId, dense);
+        return dense;
+    }
+
+    static final class VectorBuilder {
+
+        private int[] packed = new int[4];
+        private int size;
+
+        void add(int entry) {
+            if (size == packed.length) {
+                packed = Arrays.copyOf(packed, size * 2);
+            }
+            packed[size++] = entry;
+        }
+
+        int[] build() {
+            return sortedDistinct(Arrays.copyOf(packed, size));
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.skillbridge.lucknow.index;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Offline place-name lookup backed by a bundled CSV of cities with their
+ * coordinates and common alternative names. Resolves free-text locations
+ * such as "Lucknow, UP" or "Gomti Nagar Lucknow" to the place they name.
+ */
+@Component
+public class Gazetteer {
+
+    private static final Logger log = LoggerFactory.getLogger(Gazetteer.class);
+
+    // Longest run of words tried as a place name inside a longer location.
+    private static final int MAX_NAME_WORDS = 3;
+
+    private final Resource source;
+    private final Map<String, Place> placesByKey = new HashMap<>();
+    // Locations are typed by users, so the same few strings repeat across many profiles.
+    private final Cache<String, Optional<Place>> resolved;
+
+    public Gazetteer(@Value("${geo.gazetteer:classpath:geo/gazetteer.csv}") Resource source,
+                     @Value("${geo.cache.max-size:10000}") long cacheSize) {
+        this.source = source;
+        this.resolved = Caffeine.newBuilder().maximumSize(cacheSize).build();
+    }
+
+    @PostConstruct
+    public void load() {
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(source.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] fields = line.split(",", -1);
+                Place place = new Place(key(fields[0]),
+                        new GeoPoint(Double.parseDouble(fields[2]), Double.parseDouble(fields[3])));
+                placesByKey.putIfAbsent(place.key(), place);
+                if (fields.length > 4 && !fields[4].isBlank()) {
+                    for (String alias : fields[4].split("\\|")) {
+                        placesByKey.putIfAbsent(key(alias), place);
+                    }
+                }
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Cannot read gazetteer " + source, ex);
+        }
+        log.info("Gazetteer loaded: {} names", placesByKey.size());
+    }
+
+    /**
+     * Lower-cased with punctuation dropped and whitespace collapsed.
+     */
+    public static String key(String location) {
+        return location.toLowerCase(Locale.ROOT).replaceAll("[^\\p{L}\\p{N}]+", " ").trim();
+    }
+
+    /**
+     * The place the location names, or an unlocated place keyed by the
+     * normalized text when no known name occurs in it; null for blank input.
+     * The whole text is tried first, then each comma-separated part, then
+     * runs of words, longest first.
+     */
+    public Place resolve(String location) {
+        if (location == null || location.isBlank()) {
+            return null;
+        }
+        return resolved.get(location, this::lookup).orElse(null);
+    }
+
+    /**
+     * Shorthand for the point of {@link #resolve}, null when unknown.
+     */
+    public GeoPoint locate(String location) {
+        Place place = resolve(location);
+        return place != null ? place.point() : null;
+    }
+
+    private Optional<Place> lookup(String location) {
+        String key = key(location);
+        if (key.isEmpty()) {
+            return Optional.empty();
+        }
+        Place place = placesByKey.get(key);
+        if (place == null) {
+            for (String part : location.split("[,;/()]")) {
+                place = placesByKey.get(key(part));
+                if (place != null) {
+                    break;
+                }
+            }
+        }
+        if (place == null) {
+            place = findWords(key.split(" "));
+        }
+        return Optional.of(place != null ? place : new Place(key, null));
+    }
+
+    private Place findWords(String[] words) {
+        for (int length = Math.min(MAX_NAME_WORDS, words.length); length > 0; length--) {
+            for (int start = 0; start + length <= words.length; start++) {
+                Place place = placesByKey.get(String.join(" ", Arrays.copyOfRange(words, start, start + length)));
+                if (place != null) {
+                    return place;
+                }
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,217 @@
+package com.skillbridge.lucknow.index;
+
+import com.skillbridge.lucknow.entity.ProjectStatus;
+import com.skillbridge.lucknow.repository.ProjectRepository;
+import com.skillbridge.lucknow.repository.ProjectSkillRepository;
+import com.skillbridge.lucknow.repository.projection.ProjectHeader;
+import com.skillbridge.lucknow.repository.projection.ProjectSkillPair;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resident skill -> open project inverted index weighted by importance, with
+ * the header and packed (skill, importance) vector of every
+ * {@link ProjectStatus#OPEN} project. Reads are lock-free; the rare writes
+ * are serialized so the postings and project entries move together.
+ */
+@Component
+public class OpenProjectIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(OpenProjectIndex.class);
+
+    private final ProjectRepository projectRepository;
+    private final ProjectSkillRepository projectSkillRepository;
+    private final DenseSkillIds denseSkillIds;
+
+    private volatile ConcurrentHashMap<Long, OpenProject> projects = new ConcurrentHashMap<>();
+    private volatile PostingTable postings = new PostingTable();
+
+    public OpenProjectIndex(ProjectRepository projectRepository,
+                            ProjectSkillRepository projectSkillRepository,
+                            DenseSkillIds denseSkillIds) {
+        this.projectRepository = projectRepository;
+        this.projectSkillRepository = projectSkillRepository;
+        this.denseSkillIds = denseSkillIds;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public synchronized void rebuild() {
+        List<ProjectHeader> headers = projectRepository.findHeadersByStatus(ProjectStatus.OPEN);
+        List<ProjectSkillPair> pairs = projectSkillRepository.findSkillPairsByProjectStatus(ProjectStatus.OPEN);
+
+        Map<Integer, Posting.Builder> bySkill = new HashMap<>();
+        Map<Long, DenseSkillIds.VectorBuilder> byProject = new HashMap<>();
+        int maxDense = -1;
+        for (ProjectSkillPair pair : pairs) {
+            int dense = denseSkillIds.denseId(pair.getSkillId());
+            maxDense = Math.max(maxDense, dense);
+            bySkill.computeIfAbsent(dense, k -> new Posting.Builder()).add(pair.getProjectId(), pair.getImportance());
+            byProject.computeIfAbsent(pair.getProjectId(), k -> new DenseSkillIds.VectorBuilder())
+                    .add(DenseSkillIds.pack(dense, pair.getImportance()));
+        }
+
+        ConcurrentHashMap<Long, OpenProject> rebuilt = new ConcurrentHashMap<>(headers.size() * 2);
+        for (ProjectHeader header : headers) {
+            DenseSkillIds.VectorBuilder vector = byProject.get(header.getId());
+            rebuilt.put(header.getId(), new OpenProject(header.getId(), header.getTitle(), header.getLocation(),
+                    vector != null ? vector.build() : new int[0]));
+        }
+        Posting[] table = new Posting[maxDense + 1];
+        bySkill.forEach((dense, builder) -> table[dense] = builder.build());
+
+        projects = rebuilt;
+        postings = PostingTable.of(table);
+        log.info("Open project index built: {} projects, {} skills", rebuilt.size(), bySkill.size());
+    }
+
+    /**
+     * Indexes a newly inserted project if it is open, with no skills yet:
+     * its required-skill rows are inserted after it and follow through
+     * {@link #putSkill}.
+     */
+    public synchronized void add(long projectId, String title, String location, ProjectStatus status) {
+        if (status == ProjectStatus.OPEN && !projects.containsKey(projectId)) {
+            put(new OpenProject(projectId, title, location, new int[0]));
+        }
+    }
+
+    /**
+     * Updates a changed project: drops it unless it is open, replaces the
+     * header of an indexed one (its vector is kept current by
+     * {@link #putSkill} and {@link #removeSkill}), and reads the required
+     * skills of one that was not indexed. The read happens under the lock,
+     * so a concurrent skill change cannot be overwritten by an older vector.
+     */
+    public synchronized void refresh(long projectId, String title, String location, ProjectStatus status) {
+        if (status != ProjectStatus.OPEN) {
+            remove(projectId);
+            return;
+        }
+        OpenProject current = projects.get(projectId);
+        if (current != null) {
+            projects.put(projectId, new OpenProject(projectId, title, location, current.vector));
+            return;
+        }
+        int[] vector = denseSkillIds.vector(projectSkillRepository.findSkillWeightsByProjectId(projectId));
+        put(new OpenProject(projectId, title, location, vector));
+    }
+
+    public synchronized void remove(long projectId) {
+        OpenProject previous = projects.remove(projectId);
+        if (previous != null) {
+            unpost(previous);
+        }
+    }
+
+    /**
+     * Adds a required skill to an indexed project, or updates its importance.
+     */
+    public synchronized void putSkill(long projectId, long skillId, int importance) {
+        OpenProject current = projects.get(projectId);
+        if (current == null) {
+            return;
+        }
+        int dense = denseSkillIds.denseId(skillId);
+        int[] kept = withoutDense(current.vector, dense);
+        int[] vector = Arrays.copyOf(kept, kept.length + 1);
+        vector[kept.length] = DenseSkillIds.pack(dense, importance);
+        Arrays.sort(vector);
+        put(current.withVector(vector));
+    }
+
+    public synchronized void removeSkill(long projectId, long skillId) {
+        OpenProject current = projects.get(projectId);
+        if (current == null) {
+            return;
+        }
+        put(current.withVector(withoutDense(current.vector, denseSkillIds.denseId(skillId))));
+    }
+
+    /**
+     * Open projects requiring any skill of the student vector, with their
+     * importance x proficiency overlap.
+     */
+    public SkillCandidates projectsFor(int[] studentVector) {
+        return postings.join(studentVector);
+    }
+
+    public OpenProject get(long projectId) {
+        return projects.get(projectId);
+    }
+
+    private synchronized void put(OpenProject project) {
+        OpenProject previous = projects.put(project.id, project);
+        if (previous != null) {
+            unpost(previous);
+        }
+        for (int entry : project.vector) {
+            int weight = DenseSkillIds.weightOf(entry);
+            postings.update(DenseSkillIds.denseOf(entry), posting -> posting.with(project.id, weight));
+        }
+    }
+
+    private void unpost(OpenProject project) {
+        for (int entry : project.vector) {
+            postings.update(DenseSkillIds.denseOf(entry), posting -> posting.without(project.id));
+        }
+    }
+
+    private static int[] withoutDense(int[] vector, int dense) {
+        int k = 0;
+        int[] next = new int[vector.length];
+        for (int entry : vector) {
+            if (DenseSkillIds.denseOf(entry) != dense) {
+                next[k++] = entry;
+            }
+        }
+        return k == vector.length ? vector : Arrays.copyOf(next, k);
+    }
+
+    public static final class OpenProject {
+
+        private final long id;
+        private final String title;
+        private final String location;
+        private final int[] vector;
+        private final int totalImportance;
+
+        OpenProject(long id, String title, String location, int[] vector) {
+            this.id = id;
+            this.title = title;
+            this.location = location;
+            this.vector = vector;
+            this.totalImportance = DenseSkillIds.totalWeight(vector);
+        }
+
+        OpenProject withVector(int[] vector) {
+            return new OpenProject(id, title, location, vector);
+        }
+
+        public long getId() {
+            return id;
+        }
+
+        public String getTitle() {
+            return title;
+        }
+
+        public String getLocation() {
+            return location;
+        }
+
+        public int getTotalImportance() {
+            return totalImportance;
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.skillbridge.lucknow.index;
+
+/**
+ * A free-text location as the {@link Gazetteer} understood it: the key of
+ * the place it names, or of the normalized text when the place is not in
+ * the gazetteer, in which case there is no point.
+ */
+public record Place(String key, GeoPoint point) {
+
+    public boolean isLocated() {
+        return point != null;
+    }
+}
@@ -0,0 +1,96 @@
+package com.skillbridge.lucknow.index;
+
+import java.util.Arrays;
+
+/**
+ * Immutable posting list: ids in ascending order with a 1-5 weight each.
+ * Updates return a new instance, so a published list is never mutated.
+ */
+final class Posting {
+
+    static final Posting EMPTY = new Posting(new long[0], new byte[0]);
+
+    private static final int WEIGHT_BITS = 3;
+
+    final long[] ids;
+    final byte[] weights;
+
+    private Posting(long[] ids, byte[] weights) {
+        this.ids = ids;
+        this.weights = weights;
+    }
+
+    /**
+     * Inserts the id, or replaces its weight when already present.
+     */
+    Posting with(long id, int weight) {
+        int pos = Arrays.binarySearch(ids, id);
+        if (pos >= 0) {
+            byte[] nextWeights = weights.clone();
+            nextWeights[pos] = (byte) DenseSkillIds.clampWeight(weight);
+            return new Posting(ids, nextWeights);
+        }
+        int insertAt = -pos - 1;
+        long[] nextIds = new long[ids.length + 1];
+        byte[] nextWeights = new byte[ids.length + 1];
+        System.arraycopy(ids, 0, nextIds, 0, insertAt);
+        System.arraycopy(weights, 0, nextWeights, 0, insertAt);
+        nextIds[insertAt] = id;
+        nextWeights[insertAt] = (byte) DenseSkillIds.clampWeight(weight);
+        System.arraycopy(ids, insertAt, nextIds, insertAt + 1, ids.length - insertAt);
+        System.arraycopy(weights, insertAt, nextWeights, insertAt + 1, ids.length - insertAt);
+        return new Posting(nextIds, nextWeights);
+    }
+
+    Posting without(long id) {
+        int pos = Arrays.binarySearch(ids, id);
+        if (pos < 0) {
+            return this;
+        }
+        long[] nextIds = new long[ids.length - 1];
+        byte[] nextWeights = new byte[ids.length - 1];
+        System.arraycopy(ids, 0, nextIds, 0, pos);
+        System.arraycopy(weights, 0, nextWeights, 0, pos);
+        System.arraycopy(ids, pos + 1, nextIds, pos, ids.length - pos - 1);
+        System.arraycopy(weights, pos + 1, nextWeights, pos, ids.length - pos - 1);
+        return new Posting(nextIds, nextWeights);
+    }
+
+    int size() {
+        return ids.length;
+    }
+
+    /**
+     * Accumulates (id, weight) pairs in any order; {@link #build()} sorts them
+     * and keeps the highest weight given for a repeated id.
+     */
+    static final class Builder {
+
+        private long[] packed = new long[8];
+        private int size;
+
+        void add(long id, int weight) {
+            if (size == packed.length) {
+                packed = Arrays.copyOf(packed, size * 2);
+            }
+            packed[size++] = (id << WEIGHT_BITS) | DenseSkillIds.clampWeight(weight);
+        }
+
+        Posting build() {
+            long[] sorted = Arrays.copyOf(packed, size);
+            Arrays.sort(sorted);
+            long[] ids = new long[size];
+            byte[] weights = new byte[size];
+            int k = 0;
+            for (long entry : sorted) {
+                long id = entry >>> WEIGHT_BITS;
+                if (k > 0 && ids[k - 1] == id) {
+                    k--;
+                }
+                ids[k] = id;
+                weights[k++] = (byte) (entry & ((1 << WEIGHT_BITS) - 1));
+            }
+            return k == size ? new Posting(ids, weights) : new Posting(Arrays.copyOf(ids, k), Arrays.copyOf(weights, k));
+        }
+    }
+}
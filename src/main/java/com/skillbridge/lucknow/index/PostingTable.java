@@ -0,0 +1,98 @@
+package com.skillbridge.lucknow.index;
+
+import java.util.Arrays;
+import java.util.function.UnaryOperator;
+
+/**
+ * Posting lists addressed by dense skill id. Reads are plain array loads;
+ * writers are serialized and publish by replacing the array slot or, when
+ * the table grows, the whole array.
+ */
+final class PostingTable {
+
+    private volatile Posting[] byDense;
+
+    PostingTable() {
+        this(new Posting[0]);
+    }
+
+    private PostingTable(Posting[] byDense) {
+        this.byDense = byDense;
+    }
+
+    static PostingTable of(Posting[] byDense) {
+        return new PostingTable(byDense);
+    }
+
+    Posting get(int denseId) {
+        Posting[] current = byDense;
+        Posting posting = denseId < current.length ? current[denseId] : null;
+        return posting != null ? posting : Posting.EMPTY;
+    }
+
+    synchronized void update(int denseId, UnaryOperator<Posting> change) {
+        Posting[] current = byDense;
+        if (denseId >= current.length) {
+            current = Arrays.copyOf(current, Math.max(denseId + 1, current.length * 2));
+        }
+        Posting updated = change.apply(current[denseId] != null ? current[denseId] : Posting.EMPTY);
+        current[denseId] = updated.size() == 0 ? null : updated;
+        byDense = current;
+    }
+
+    /**
+     * Merge-joins the posting lists named by a packed query vector. For every
+     * id in any of them it yields how many query skills matched and the sum of
+     * query weight x posting weight over those skills.
+     */
+    SkillCandidates join(int[] queryVector) {
+        long[] ids = new long[0];
+        int[] counts = new int[0];
+        int[] overlaps = new int[0];
+        int size = 0;
+
+        for (int entry : queryVector) {
+            Posting posting = get(DenseSkillIds.denseOf(entry));
+            if (posting.size() == 0) {
+                continue;
+            }
+            int queryWeight = DenseSkillIds.weightOf(entry);
+            int n = posting.size();
+            long[] mergedIds = new long[size + n];
+            int[] mergedCounts = new int[size + n];
+            int[] mergedOverlaps = new int[size + n];
+            int i = 0, j = 0, k = 0;
+            while (i < size && j < n) {
+                if (ids[i] < posting.ids[j]) {
+                    mergedIds[k] = ids[i];
+                    mergedCounts[k] = counts[i];
+                    mergedOverlaps[k++] = overlaps[i++];
+                } else if (ids[i] > posting.ids[j]) {
+                    mergedIds[k] = posting.ids[j];
+                    mergedCounts[k] = 1;
+                    mergedOverlaps[k++] = queryWeight * posting.weights[j++];
+                } else {
+                    mergedIds[k] = ids[i];
+                    mergedCounts[k] = counts[i] + 1;
+                    mergedOverlaps[k++] = overlaps[i++] + queryWeight * posting.weights[j++];
+                }
+            }
+            while (i < size) {
+                mergedIds[k] = ids[i];
+                mergedCounts[k] = counts[i];
+                mergedOverlaps[k++] = overlaps[i++];
+            }
+            while (j < n) {
+                mergedIds[k] = posting.ids[j];
+                mergedCounts[k] = 1;
+                mergedOverlaps[k++] = queryWeight * posting.weights[j++];
+            }
+            ids = mergedIds;
+            counts = mergedCounts;
+            overlaps = mergedOverlaps;
+            size = k;
+        }
+
+        return size == 0 ? SkillCandidates.empty() : new SkillCandidates(ids, counts, overlaps, size);
+    }
+}
@@ -0,0 +1,303 @@
+package com.skillbridge.lucknow.index;
+
+import com.skillbridge.lucknow.dto.ProjectSearchHit;
+import com.skillbridge.lucknow.entity.ProjectStatus;
+import com.skillbridge.lucknow.repository.ProjectRepository;
+import com.skillbridge.lucknow.repository.ProjectSkillRepository;
+import com.skillbridge.lucknow.repository.projection.ProjectSkillPair;
+import com.skillbridge.lucknow.repository.projection.ProjectSummary;
+import jakarta.annotation.PreDestroy;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.en.EnglishAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.simple.SimpleQueryParser;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * On-disk Lucene index over project titles, descriptions and skill names,
+ * with exact-match skill, location and status fields for filtering. Every
+ * update is committed, so the index survives restarts; it is rebuilt from
+ * the database when missing or on demand. Changed projects are queued and
+ * reindexed in batches on a background thread, one commit per batch, so
+ * writers never wait for the index.
+ */
+@Component
+public class ProjectSearchIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(ProjectSearchIndex.class);
+
+    private static final String ID = "id";
+    private static final String TITLE = "title";
+    private static final String DESCRIPTION = "description";
+    private static final String SKILL_TEXT = "skillText";
+    private static final String SKILL = "skill";
+    private static final String LOCATION = "location";
+    private static final String LOCATION_NAME = "locationName";
+    private static final String STATUS = "status";
+
+    // Keeps each IN list of a batch refresh well below placeholder limits.
+    private static final int REFRESH_CHUNK_SIZE = 500;
+
+    // Title words say more about a project than the same words in its description.
+    private static final Map<String, Float> TEXT_FIELDS = Map.of(TITLE, 3f, SKILL_TEXT, 2f, DESCRIPTION, 1f);
+
+    private final ProjectRepository projectRepository;
+    private final ProjectSkillRepository projectSkillRepository;
+    private final SkillDictionary skillDictionary;
+    private final TransactionTemplate primaryReads;
+    private final Analyzer analyzer = new EnglishAnalyzer();
+    private final Directory directory;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+    private final boolean created;
+    private final Set<Long> pendingRefresh = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean drainScheduled = new AtomicBoolean();
+    private final ExecutorService indexer = Executors.newSingleThreadExecutor(task -> {
+        Thread thread = new Thread(task, "project-search-indexer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public ProjectSearchIndex(ProjectRepository projectRepository,
+                              ProjectSkillRepository projectSkillRepository,
+                              SkillDictionary skillDictionary,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${search.index-dir:./data/project-index}") Path indexDir) throws IOException {
+        this.projectRepository = projectRepository;
+        this.projectSkillRepository = projectSkillRepository;
+        this.skillDictionary = skillDictionary;
+        // Read-write, so that with a read replica configured the indexer reads the rows that were just committed.
+        this.primaryReads = new TransactionTemplate(transactionManager);
+        Files.createDirectories(indexDir);
+        this.directory = FSDirectory.open(indexDir);
+        this.created = !DirectoryReader.indexExists(directory);
+        this.writer = new IndexWriter(directory, new IndexWriterConfig(analyzer));
+        this.searcherManager = new SearcherManager(writer, null);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfCreated() {
+        if (created) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Replaces the whole index with the current contents of the database.
+     * The rows are read in one transaction on the primary while holding the
+     * index lock: every refresh that ran before is covered by them, and a
+     * refresh queued meanwhile waits for the lock and re-reads afterwards,
+     * so the rebuild never overwrites newer documents with older rows.
+     */
+    public synchronized int rebuild() {
+        List<ProjectSummary> projects = new ArrayList<>();
+        Map<Long, List<String>> skills = primaryReads.execute(status -> {
+            projects.addAll(projectRepository.findAllSummaries());
+            return groupByProject(projectSkillRepository.findAllSkillPairs());
+        });
+        try {
+            writer.deleteAll();
+            for (ProjectSummary project : projects) {
+                writer.addDocument(toDocument(project, skills.getOrDefault(project.getId(), List.of())));
+            }
+            commit();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        log.info("Project search index rebuilt: {} projects", projects.size());
+        return projects.size();
+    }
+
+    /**
+     * Queues the project for reindexing on the indexer thread; returns at once.
+     */
+    public void requestRefresh(long projectId) {
+        pendingRefresh.add(projectId);
+        if (drainScheduled.compareAndSet(false, true)) {
+            indexer.execute(this::drainPending);
+        }
+    }
+
+    private void drainPending() {
+        // Ids queued from here on schedule another drain.
+        drainScheduled.set(false);
+        List<Long> projectIds = new ArrayList<>(pendingRefresh);
+        pendingRefresh.removeAll(projectIds);
+        if (projectIds.isEmpty()) {
+            return;
+        }
+        try {
+            refresh(projectIds);
+        } catch (RuntimeException ex) {
+            log.error("Project search index update failed for {} projects; POST /api/admin/search/rebuild repairs it",
+                    projectIds.size(), ex);
+        }
+    }
+
+    /**
+     * Re-reads the projects and replaces their documents, deleting those of
+     * projects that no longer exist, then commits once.
+     */
+    public synchronized void refresh(Collection<Long> projectIds) {
+        List<Long> ids = List.copyOf(projectIds);
+        try {
+            for (int from = 0; from < ids.size(); from += REFRESH_CHUNK_SIZE) {
+                List<Long> chunk = ids.subList(from, Math.min(from + REFRESH_CHUNK_SIZE, ids.size()));
+                Map<Long, ProjectSummary> projects = new HashMap<>();
+                List<ProjectSkillPair> pairs = primaryReads.execute(status -> {
+                    for (ProjectSummary project : projectRepository.findSummariesByIds(chunk)) {
+                        projects.put(project.getId(), project);
+                    }
+                    return projectSkillRepository.findSkillPairsByProjectIds(chunk);
+                });
+                Map<Long, List<String>> skills = groupByProject(pairs);
+                for (Long projectId : chunk) {
+                    Term id = new Term(ID, projectId.toString());
+                    ProjectSummary project = projects.get(projectId);
+                    if (project == null) {
+                        writer.deleteDocuments(id);
+                    } else {
+                        writer.updateDocument(id, toDocument(project, skills.getOrDefault(projectId, List.of())));
+                    }
+                }
+            }
+            commit();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Best {@code limit} projects for the query text, restricted to those
+     * having every given skill and, when set, the location and status. A
+     * blank query returns matching projects unranked.
+     */
+    public List<ProjectSearchHit> search(String text, Collection<String> skills, String location,
+                                         ProjectStatus status, int limit) {
+        BooleanQuery.Builder query = new BooleanQuery.Builder();
+        if (text != null && !text.isBlank()) {
+            query.add(new SimpleQueryParser(analyzer, TEXT_FIELDS).parse(text), BooleanClause.Occur.MUST);
+        } else {
+            query.add(new MatchAllDocsQuery(), BooleanClause.Occur.MUST);
+        }
+        if (skills != null) {
+            for (String skill : skills) {
+                query.add(new TermQuery(new Term(SKILL, SkillDictionary.key(skill))), BooleanClause.Occur.FILTER);
+            }
+        }
+        if (location != null && !location.isBlank()) {
+            query.add(new TermQuery(new Term(LOCATION, normalize(location))), BooleanClause.Occur.FILTER);
+        }
+        if (status != null) {
+            query.add(new TermQuery(new Term(STATUS, status.name())), BooleanClause.Occur.FILTER);
+        }
+
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                TopDocs top = searcher.search(query.build(), limit);
+                List<ProjectSearchHit> hits = new ArrayList<>(top.scoreDocs.length);
+                for (ScoreDoc scoreDoc : top.scoreDocs) {
+                    Document doc = searcher.storedFields().document(scoreDoc.doc);
+                    hits.add(new ProjectSearchHit(
+                            Long.parseLong(doc.get(ID)),
+                            doc.get(TITLE),
+                            doc.get(LOCATION_NAME),
+                            ProjectStatus.valueOf(doc.get(STATUS)),
+                            scoreDoc.score));
+                }
+                return hits;
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException, InterruptedException {
+        indexer.shutdown();
+        indexer.awaitTermination(10, TimeUnit.SECONDS);
+        searcherManager.close();
+        writer.close();
+        directory.close();
+    }
+
+    private void commit() throws IOException {
+        writer.commit();
+        searcherManager.maybeRefreshBlocking();
+    }
+
+    private static Document toDocument(ProjectSummary project, List<String> skills) {
+        Document doc = new Document();
+        doc.add(new StringField(ID, project.getId().toString(), Field.Store.YES));
+        doc.add(new TextField(TITLE, project.getTitle(), Field.Store.YES));
+        doc.add(new TextField(DESCRIPTION, project.getDescription(), Field.Store.NO));
+        doc.add(new StringField(STATUS, project.getStatus().name(), Field.Store.YES));
+        if (project.getLocation() != null) {
+            doc.add(new StringField(LOCATION, normalize(project.getLocation()), Field.Store.NO));
+            doc.add(new StoredField(LOCATION_NAME, project.getLocation()));
+        }
+        for (String skill : skills) {
+            doc.add(new TextField(SKILL_TEXT, skill, Field.Store.NO));
+            doc.add(new StringField(SKILL, SkillDictionary.key(skill), Field.Store.NO));
+        }
+        return doc;
+    }
+
+    private Map<Long, List<String>> groupByProject(List<ProjectSkillPair> pairs) {
+        Map<Long, List<String>> byProject = new HashMap<>();
+        for (ProjectSkillPair pair : pairs) {
+            byProject.computeIfAbsent(pair.getProjectId(), k -> new ArrayList<>())
+                    .add(skillDictionary.nameOf(pair.getSkillId()));
+        }
+        return byProject;
+    }
+
+    private static String normalize(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+}
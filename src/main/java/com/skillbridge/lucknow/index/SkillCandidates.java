@@ -0,0 +1,83 @@
+package com.skillbridge.lucknow.index;
+
+import java.util.Arrays;
+
+/**
+ * Ids (students or projects) sharing at least one skill with a query, in
+ * ascending order, together with the number of query skills each one shares
+ * and the weighted overlap (sum of query weight x posting weight) over them.
+ */
+public class SkillCandidates {
+
+    private static final SkillCandidates EMPTY = new SkillCandidates(new long[0], new int[0], new int[0], 0);
+
+    private final long[] ids;
+    private final int[] matchedCounts;
+    private final int[] weightedOverlaps;
+    private final int size;
+
+    SkillCandidates(long[] ids, int[] matchedCounts, int[] weightedOverlaps, int size) {
+        this.ids = ids;
+        this.matchedCounts = matchedCounts;
+        this.weightedOverlaps = weightedOverlaps;
+        this.size = size;
+    }
+
+    static SkillCandidates empty() {
+        return EMPTY;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public long idAt(int i) {
+        return ids[i];
+    }
+
+    /**
+     * Returns the position of the id, or a negative value if absent.
+     */
+    public int positionOf(long id) {
+        return Arrays.binarySearch(ids, 0, size, id);
+    }
+
+    public int matchedCountAt(int i) {
+        return matchedCounts[i];
+    }
+
+    public int weightedOverlapAt(int i) {
+        return weightedOverlaps[i];
+    }
+
+    /**
+     * The candidates whose ids are also in {@code sortedIds}, by a merge of
+     * the two ascending lists.
+     */
+    public SkillCandidates restrictTo(long[] sortedIds) {
+        long[] keptIds = new long[Math.min(size, sortedIds.length)];
+        int[] keptCounts = new int[keptIds.length];
+        int[] keptOverlaps = new int[keptIds.length];
+        int kept = 0;
+        int i = 0, j = 0;
+        while (i < size && j < sortedIds.length) {
+            if (ids[i] == sortedIds[j]) {
+                keptIds[kept] = ids[i];
+                keptCounts[kept] = matchedCounts[i];
+                keptOverlaps[kept] = weightedOverlaps[i];
+                kept++;
+                i++;
+                j++;
+            } else if (ids[i] < sortedIds[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return new SkillCandidates(keptIds, keptCounts, keptOverlaps, kept);
+    }
+}
@@ -0,0 +1,154 @@
+package com.skillbridge.lucknow.index;
+
+import com.skillbridge.lucknow.entity.Skill;
+import com.skillbridge.lucknow.repository.SkillRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Process-wide skill name <-> id dictionary, loaded once at startup. Names are
+ * keyed case- and whitespace-insensitively, so "Spring  Boot" and
+ * "spring boot" are the same skill. The database only sees lookups for ids
+ * or names this process has not met yet.
+ */
+@Component
+public class SkillDictionary {
+
+    private static final Logger log = LoggerFactory.getLogger(SkillDictionary.class);
+
+    private final SkillRepository skillRepository;
+    private final ConcurrentHashMap<String, Long> idsByKey = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, String> namesById = new ConcurrentHashMap<>();
+
+    public SkillDictionary(SkillRepository skillRepository) {
+        this.skillRepository = skillRepository;
+    }
+
+    // Loaded before any ready-event rebuild can ask for names.
+    @PostConstruct
+    public void load() {
+        List<Skill> skills = skillRepository.findAll();
+        skills.forEach(this::register);
+        log.info("Skill dictionary loaded: {} skills", skills.size());
+    }
+
+    /**
+     * Trimmed with inner whitespace collapsed: the form a new skill is stored in.
+     */
+    public static String normalize(String name) {
+        return name.trim().replaceAll("\\s+", " ");
+    }
+
+    /**
+     * Lookup key of a name: normalized and lower-cased.
+     */
+    public static String key(String name) {
+        return normalize(name).toLowerCase(Locale.ROOT);
+    }
+
+    public Long idOf(String name) {
+        return idsByKey.get(key(name));
+    }
+
+    public String nameOf(long skillId) {
+        String name = namesById.get(skillId);
+        if (name == null) {
+            // Inserted by another instance since we loaded, or by the current transaction.
+            Skill skill = skillRepository.findById(skillId).orElse(null);
+            if (skill == null) {
+                return null;
+            }
+            registerWhenCommitted(List.of(skill));
+            name = skill.getName();
+        }
+        return name;
+    }
+
+    /**
+     * Ids of the given names by {@link #key}, inserting the unknown ones.
+     * Concurrent callers may both try to insert a name; the unique constraint
+     * keeps one row and both end up with its id. Inserted names join the
+     * dictionary only once the caller's transaction commits.
+     */
+    public Map<String, Long> resolve(Collection<String> names) {
+        Map<String, Long> ids = new HashMap<>();
+        Map<String, String> missing = new LinkedHashMap<>();
+        for (String name : names) {
+            String key = key(name);
+            Long id = idsByKey.get(key);
+            if (id != null) {
+                ids.put(key, id);
+            } else {
+                missing.putIfAbsent(key, normalize(name));
+            }
+        }
+        if (missing.isEmpty()) {
+            return ids;
+        }
+
+        List<String> toInsert = new ArrayList<>(missing.values());
+        skillRepository.insertMissing(toInsert);
+        List<Skill> inserted = skillRepository.findByNameIn(toInsert);
+        Map<String, Long> insertedIds = new HashMap<>();
+        for (Skill skill : inserted) {
+            insertedIds.putIfAbsent(key(skill.getName()), skill.getId());
+        }
+        registerWhenCommitted(inserted);
+        for (String key : missing.keySet()) {
+            Long id = idsByKey.get(key);
+            if (id == null) {
+                id = insertedIds.get(key);
+            }
+            if (id == null) {
+                throw new IllegalStateException("Skill not found after insert: " + missing.get(key));
+            }
+            ids.put(key, id);
+        }
+        return ids;
+    }
+
+    public int size() {
+        return namesById.size();
+    }
+
+    /**
+     * Rows read in a read-write transaction may be its own uncommitted
+     * inserts, which must not outlive a rollback in a process-wide map.
+     */
+    private void registerWhenCommitted(List<Skill> skills) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            skills.forEach(this::register);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                skills.forEach(SkillDictionary.this::register);
+            }
+        });
+    }
+
+    private String register(Skill skill) {
+        // First spelling wins, so every reader agrees on one id per key.
+        Long id = idsByKey.putIfAbsent(key(skill.getName()), skill.getId());
+        namesById.putIfAbsent(skill.getId(), skill.getName());
+        if (id != null && id != skill.getId().longValue()) {
+            log.debug("Skill {} duplicates skill {} by name", skill.getId(), id);
+        }
+        return skill.getName();
+    }
+}
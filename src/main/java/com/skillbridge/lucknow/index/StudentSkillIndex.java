@@ -0,0 +1,149 @@
+package com.skillbridge.lucknow.index;
+
+import com.skillbridge.lucknow.entity.RoleName;
+import com.skillbridge.lucknow.repository.UserSkillRepository;
+import com.skillbridge.lucknow.repository.projection.UserSkillPair;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resident skill -> student inverted index weighted by proficiency, plus each
+ * student's packed (skill, proficiency) vector. Lists are replaced
+ * copy-on-write, so readers never lock and never see a partial update.
+ */
+@Component
+public class StudentSkillIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(StudentSkillIndex.class);
+    private static final int[] NO_SKILLS = new int[0];
+
+    private final UserSkillRepository userSkillRepository;
+    private final DenseSkillIds denseSkillIds;
+
+    private volatile PostingTable postings = new PostingTable();
+    private volatile ConcurrentHashMap<Long, int[]> vectors = new ConcurrentHashMap<>();
+
+    public StudentSkillIndex(UserSkillRepository userSkillRepository, DenseSkillIds denseSkillIds) {
+        this.userSkillRepository = userSkillRepository;
+        this.denseSkillIds = denseSkillIds;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public synchronized void rebuild() {
+        List<UserSkillPair> pairs = userSkillRepository.findSkillPairsByRole(RoleName.ROLE_STUDENT);
+
+        Map<Integer, Posting.Builder> bySkill = new HashMap<>();
+        Map<Long, DenseSkillIds.VectorBuilder> byStudent = new HashMap<>();
+        int maxDense = -1;
+        for (UserSkillPair pair : pairs) {
+            int dense = denseSkillIds.denseId(pair.getSkillId());
+            maxDense = Math.max(maxDense, dense);
+            bySkill.computeIfAbsent(dense, k -> new Posting.Builder()).add(pair.getUserId(), pair.getProficiency());
+            byStudent.computeIfAbsent(pair.getUserId(), k -> new DenseSkillIds.VectorBuilder())
+                    .add(DenseSkillIds.pack(dense, pair.getProficiency()));
+        }
+
+        Posting[] table = new Posting[maxDense + 1];
+        bySkill.forEach((dense, builder) -> table[dense] = builder.build());
+        ConcurrentHashMap<Long, int[]> rebuiltVectors = new ConcurrentHashMap<>(byStudent.size() * 2);
+        byStudent.forEach((studentId, builder) -> rebuiltVectors.put(studentId, builder.build()));
+
+        postings = PostingTable.of(table);
+        vectors = rebuiltVectors;
+        log.info("Student skill index built: {} skills, {} students, {} entries",
+                bySkill.size(), byStudent.size(), pairs.size());
+    }
+
+    /**
+     * Adds the skill to the student, or updates its proficiency.
+     */
+    public synchronized void put(long skillId, long studentId, int proficiency) {
+        int dense = denseSkillIds.denseId(skillId);
+        postings.update(dense, posting -> posting.with(studentId, proficiency));
+        vectors.compute(studentId, (k, vector) -> {
+            int[] current = vector != null ? withoutDense(vector, dense) : NO_SKILLS;
+            int[] next = Arrays.copyOf(current, current.length + 1);
+            next[current.length] = DenseSkillIds.pack(dense, proficiency);
+            Arrays.sort(next);
+            return next;
+        });
+    }
+
+    public synchronized void remove(long skillId, long studentId) {
+        int dense = denseSkillIds.denseId(skillId);
+        postings.update(dense, posting -> posting.without(studentId));
+        vectors.computeIfPresent(studentId, (k, vector) -> {
+            int[] next = withoutDense(vector, dense);
+            return next.length == 0 ? null : next;
+        });
+    }
+
+    /**
+     * Re-indexes a user whose student role was granted or taken away: reads
+     * the user's skills if they are a student now, and drops them from the
+     * index otherwise. The read happens under the lock, so a concurrent
+     * skill change cannot be overwritten by older rows.
+     */
+    public synchronized void refreshStudent(long userId, boolean student) {
+        int[] previous = vectors.getOrDefault(userId, NO_SKILLS);
+        for (int entry : previous) {
+            postings.update(DenseSkillIds.denseOf(entry), posting -> posting.without(userId));
+        }
+        vectors.remove(userId);
+        if (student) {
+            for (UserSkillPair pair : userSkillRepository.findSkillPairsByUserId(userId)) {
+                put(pair.getSkillId(), userId, pair.getProficiency());
+            }
+        }
+    }
+
+    /**
+     * Returns the student's packed (dense skill id, proficiency) vector.
+     */
+    public int[] vectorOf(long studentId) {
+        return vectors.getOrDefault(studentId, NO_SKILLS);
+    }
+
+    /**
+     * Returns the sorted {@code Skill.id}s the student currently holds.
+     */
+    public long[] skillsOf(long studentId) {
+        int[] vector = vectorOf(studentId);
+        long[] skillIds = new long[vector.length];
+        for (int i = 0; i < vector.length; i++) {
+            skillIds[i] = denseSkillIds.skillId(DenseSkillIds.denseOf(vector[i]));
+        }
+        Arrays.sort(skillIds);
+        return skillIds;
+    }
+
+    /**
+     * Students holding any skill of the project vector, with their
+     * importance x proficiency overlap.
+     */
+    public SkillCandidates candidatesFor(int[] projectVector) {
+        return postings.join(projectVector);
+    }
+
+    private static int[] withoutDense(int[] vector, int dense) {
+        int k = 0;
+        int[] next = new int[vector.length];
+        for (int entry : vector) {
+            if (DenseSkillIds.denseOf(entry) != dense) {
+                next[k++] = entry;
+            }
+        }
+        return k == vector.length ? vector : Arrays.copyOf(next, k);
+    }
+}
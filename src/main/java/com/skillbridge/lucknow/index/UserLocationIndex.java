@@ -0,0 +1,275 @@
+package com.skillbridge.lucknow.index;
+
+import com.skillbridge.lucknow.repository.UserRepository;
+import com.skillbridge.lucknow.repository.projection.UserLocation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.LongStream;
+
+/**
+ * Resident grid over the geocoded locations of users. The earth is cut into
+ * {@link #CELL_DEGREES} x {@link #CELL_DEGREES} cells listing the distinct
+ * points inside them, and each point holds the sorted ids of its users. A
+ * radius query measures one distance per point in the cells its bounding box
+ * touches, however many users share a city. Arrays are replaced
+ * copy-on-write, so readers never lock.
+ */
+@Component
+public class UserLocationIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(UserLocationIndex.class);
+
+    // About 55 km north-south: most radius queries touch a handful of cells.
+    static final double CELL_DEGREES = 0.5;
+    private static final double KM_PER_DEGREE = 111.32;
+    private static final long[] NONE = new long[0];
+
+    private final UserRepository userRepository;
+    private final Gazetteer gazetteer;
+
+    private volatile ConcurrentHashMap<Long, GeoPoint[]> cells = new ConcurrentHashMap<>();
+    private volatile ConcurrentHashMap<GeoPoint, long[]> usersByPoint = new ConcurrentHashMap<>();
+    private volatile ConcurrentHashMap<Long, GeoPoint> points = new ConcurrentHashMap<>();
+
+    public UserLocationIndex(UserRepository userRepository, Gazetteer gazetteer) {
+        this.userRepository = userRepository;
+        this.gazetteer = gazetteer;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public synchronized void rebuild() {
+        List<UserLocation> locations = userRepository.findAllLocations();
+        ConcurrentHashMap<Long, GeoPoint> rebuiltPoints = new ConcurrentHashMap<>();
+        Map<GeoPoint, LongStream.Builder> byPoint = new HashMap<>();
+        for (UserLocation location : locations) {
+            GeoPoint point = gazetteer.locate(location.getLocation());
+            if (point != null) {
+                rebuiltPoints.put(location.getId(), point);
+                byPoint.computeIfAbsent(point, k -> LongStream.builder()).add(location.getId());
+            }
+        }
+        ConcurrentHashMap<GeoPoint, long[]> rebuiltUsers = new ConcurrentHashMap<>(byPoint.size() * 2);
+        Map<Long, List<GeoPoint>> byCell = new HashMap<>();
+        byPoint.forEach((point, ids) -> {
+            rebuiltUsers.put(point, ids.build().sorted().toArray());
+            byCell.computeIfAbsent(cellOf(point), k -> new ArrayList<>()).add(point);
+        });
+        ConcurrentHashMap<Long, GeoPoint[]> rebuiltCells = new ConcurrentHashMap<>(byCell.size() * 2);
+        byCell.forEach((cell, cellPoints) -> rebuiltCells.put(cell, cellPoints.toArray(GeoPoint[]::new)));
+
+        cells = rebuiltCells;
+        usersByPoint = rebuiltUsers;
+        points = rebuiltPoints;
+        log.info("User location index built: {} of {} locations placed at {} points",
+                rebuiltPoints.size(), locations.size(), rebuiltUsers.size());
+    }
+
+    /**
+     * Moves the user to the given location, or drops them when it cannot be
+     * located. Returns whether the user's point changed.
+     */
+    public synchronized boolean put(long userId, String location) {
+        GeoPoint point = gazetteer.locate(location);
+        GeoPoint previous = point != null ? points.put(userId, point) : points.remove(userId);
+        if (Objects.equals(previous, point)) {
+            return false;
+        }
+        if (previous != null) {
+            removeAt(previous, userId);
+        }
+        if (point != null) {
+            addAt(point, userId);
+        }
+        return true;
+    }
+
+    public synchronized void remove(long userId) {
+        GeoPoint previous = points.remove(userId);
+        if (previous != null) {
+            removeAt(previous, userId);
+        }
+    }
+
+    public GeoPoint pointOf(long userId) {
+        return points.get(userId);
+    }
+
+    /**
+     * Sorted ids of the users located within {@code radiusKm} of the center.
+     * The array may be shared with the index and must not be modified.
+     */
+    public long[] within(GeoPoint center, double radiusKm) {
+        double latSpan = radiusKm / KM_PER_DEGREE;
+        double lonSpan = radiusKm / (KM_PER_DEGREE * Math.max(0.01, Math.cos(Math.toRadians(center.latitude()))));
+        int minLat = cellIndex(center.latitude() - latSpan);
+        int maxLat = cellIndex(center.latitude() + latSpan);
+        int[] lonRanges = lonCellRanges(center.longitude(), lonSpan);
+
+        Map<Long, GeoPoint[]> snapshot = cells;
+        Map<GeoPoint, long[]> users = usersByPoint;
+        List<long[]> found = new ArrayList<>();
+        long boxCells = 0;
+        for (int r = 0; r < lonRanges.length; r += 2) {
+            boxCells += (long) (maxLat - minLat + 1) * (lonRanges[r + 1] - lonRanges[r] + 1);
+        }
+        if (boxCells > snapshot.size()) {
+            // A radius this large covers fewer occupied cells than cells in its box.
+            snapshot.forEach((cell, cellPoints) -> {
+                int lat = (int) (cell >> 32);
+                int lon = (int) cell.longValue();
+                if (lat >= minLat && lat <= maxLat && inRanges(lon, lonRanges)) {
+                    addWithin(cellPoints, users, center, radiusKm, found);
+                }
+            });
+        } else {
+            for (int r = 0; r < lonRanges.length; r += 2) {
+                for (int lat = minLat; lat <= maxLat; lat++) {
+                    for (int lon = lonRanges[r]; lon <= lonRanges[r + 1]; lon++) {
+                        GeoPoint[] cellPoints = snapshot.get(cellKey(lat, lon));
+                        if (cellPoints != null) {
+                            addWithin(cellPoints, users, center, radiusKm, found);
+                        }
+                    }
+                }
+            }
+        }
+        return merge(found);
+    }
+
+    /**
+     * The longitude cells within {@code span} degrees of the longitude, as
+     * disjoint inclusive (first, last) pairs: split in two where the span
+     * crosses the antimeridian, and every cell once it nearly circles the
+     * earth.
+     */
+    static int[] lonCellRanges(double longitude, double span) {
+        int first = cellIndex(-180);
+        int last = cellIndex(180);
+        // Wider than this, the wrapped ends could share a cell and list its users twice.
+        if (span >= 180 - CELL_DEGREES) {
+            return new int[]{first, last};
+        }
+        double from = longitude - span;
+        double to = longitude + span;
+        if (from < -180) {
+            return new int[]{cellIndex(from + 360), last, first, cellIndex(to)};
+        }
+        if (to > 180) {
+            return new int[]{cellIndex(from), last, first, cellIndex(to - 360)};
+        }
+        return new int[]{cellIndex(from), cellIndex(to)};
+    }
+
+    private static boolean inRanges(int lon, int[] ranges) {
+        for (int r = 0; r < ranges.length; r += 2) {
+            if (lon >= ranges[r] && lon <= ranges[r + 1]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void addWithin(GeoPoint[] cellPoints, Map<GeoPoint, long[]> users, GeoPoint center,
+                                  double radiusKm, List<long[]> found) {
+        for (GeoPoint point : cellPoints) {
+            if (center.distanceKm(point) <= radiusKm) {
+                long[] ids = users.get(point);
+                if (ids != null) {
+                    found.add(ids);
+                }
+            }
+        }
+    }
+
+    private void addAt(GeoPoint point, long userId) {
+        long[] ids = usersByPoint.get(point);
+        if (ids == null) {
+            usersByPoint.put(point, new long[]{userId});
+            cells.merge(cellOf(point), new GeoPoint[]{point}, (current, added) -> {
+                GeoPoint[] next = Arrays.copyOf(current, current.length + 1);
+                next[current.length] = point;
+                return next;
+            });
+            return;
+        }
+        long[] next = Arrays.copyOf(ids, ids.length + 1);
+        next[ids.length] = userId;
+        Arrays.sort(next);
+        usersByPoint.put(point, next);
+    }
+
+    private void removeAt(GeoPoint point, long userId) {
+        long[] ids = usersByPoint.get(point);
+        int i = ids == null ? -1 : Arrays.binarySearch(ids, userId);
+        if (i < 0) {
+            return;
+        }
+        if (ids.length > 1) {
+            long[] next = new long[ids.length - 1];
+            System.arraycopy(ids, 0, next, 0, i);
+            System.arraycopy(ids, i + 1, next, i, ids.length - i - 1);
+            usersByPoint.put(point, next);
+            return;
+        }
+        usersByPoint.remove(point);
+        cells.computeIfPresent(cellOf(point), (cell, current) -> {
+            GeoPoint[] next = Arrays.stream(current).filter(p -> !p.equals(point)).toArray(GeoPoint[]::new);
+            return next.length == 0 ? null : next;
+        });
+    }
+
+    /**
+     * Merges disjoint sorted arrays pairwise, so each id is copied about
+     * log2(arrays) times.
+     */
+    private static long[] merge(List<long[]> sorted) {
+        if (sorted.isEmpty()) {
+            return NONE;
+        }
+        List<long[]> round = sorted;
+        while (round.size() > 1) {
+            List<long[]> next = new ArrayList<>((round.size() + 1) / 2);
+            for (int i = 0; i < round.size(); i += 2) {
+                next.add(i + 1 < round.size() ? merge(round.get(i), round.get(i + 1)) : round.get(i));
+            }
+            round = next;
+        }
+        return round.get(0);
+    }
+
+    private static long[] merge(long[] a, long[] b) {
+        long[] merged = new long[a.length + b.length];
+        int i = 0, j = 0, k = 0;
+        while (i < a.length && j < b.length) {
+            merged[k++] = a[i] <= b[j] ? a[i++] : b[j++];
+        }
+        System.arraycopy(a, i, merged, k, a.length - i);
+        System.arraycopy(b, j, merged, k + a.length - i, b.length - j);
+        return merged;
+    }
+
+    private static long cellOf(GeoPoint point) {
+        return cellKey(cellIndex(point.latitude()), cellIndex(point.longitude()));
+    }
+
+    private static int cellIndex(double degrees) {
+        return (int) Math.floor(degrees / CELL_DEGREES);
+    }
+
+    private static long cellKey(int lat, int lon) {
+        return ((long) lat << 32) | (lon & 0xffffffffL);
+    }
+}
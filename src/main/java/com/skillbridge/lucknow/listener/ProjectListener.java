@@ -0,0 +1,83 @@
+package com.skillbridge.lucknow.listener;
+
+import com.skillbridge.lucknow.entity.Project;
+import com.skillbridge.lucknow.entity.ProjectStatus;
+import com.skillbridge.lucknow.index.OpenProjectIndex;
+import com.skillbridge.lucknow.index.ProjectSearchIndex;
+import com.skillbridge.lucknow.service.MatchResultCache;
+import com.skillbridge.lucknow.service.ProjectVersions;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ProjectListener {
+
+    private final OpenProjectIndex openProjectIndex;
+    private final ProjectSearchIndex projectSearchIndex;
+    private final ProjectVersions projectVersions;
+    private final MatchResultCache matchResultCache;
+
+    public ProjectListener(@Lazy OpenProjectIndex openProjectIndex,
+                           @Lazy ProjectSearchIndex projectSearchIndex,
+                           @Lazy ProjectVersions projectVersions,
+                           @Lazy MatchResultCache matchResultCache) {
+        this.openProjectIndex = openProjectIndex;
+        this.projectSearchIndex = projectSearchIndex;
+        this.projectVersions = projectVersions;
+        this.matchResultCache = matchResultCache;
+    }
+
+    @PostPersist
+    public void onPersist(Project project) {
+        long projectId = project.getId();
+        String title = project.getTitle();
+        String location = project.getLocation();
+        ProjectStatus status = project.getStatus();
+        // Registered before the hooks of the project's skill rows, which are inserted after it.
+        TransactionHooks.afterCommit(() -> {
+            openProjectIndex.add(projectId, title, location, status);
+            projectVersions.changed(projectId);
+        });
+        reindex(projectId);
+    }
+
+    @PostUpdate
+    public void onUpdate(Project project) {
+        long projectId = project.getId();
+        String title = project.getTitle();
+        String location = project.getLocation();
+        ProjectStatus status = project.getStatus();
+        TransactionHooks.afterCommit(() -> {
+            openProjectIndex.refresh(projectId, title, location, status);
+            // Rankings depend on the project's location, both for the distance filter and the location score.
+            matchResultCache.invalidateProject(projectId);
+            projectVersions.changed(projectId);
+        });
+        reindex(projectId);
+    }
+
+    @PostRemove
+    public void onRemove(Project project) {
+        long projectId = project.getId();
+        TransactionHooks.afterCommit(() -> {
+            openProjectIndex.remove(projectId);
+            projectVersions.changed(projectId);
+        });
+        reindex(projectId);
+    }
+
+    /**
+     * Queues the project for reindexing once after commit, however many of
+     * its rows the transaction touched.
+     */
+    void reindex(long projectId) {
+        TransactionHooks.afterCommitOnce(searchKey(projectId), () -> projectSearchIndex.requestRefresh(projectId));
+    }
+
+    static String searchKey(long projectId) {
+        return "project-search:" + projectId;
+    }
+}
@@ -0,0 +1,62 @@
+package com.skillbridge.lucknow.listener;
+
+import com.skillbridge.lucknow.entity.ProjectSkill;
+import com.skillbridge.lucknow.index.OpenProjectIndex;
+import com.skillbridge.lucknow.index.ProjectSearchIndex;
+import com.skillbridge.lucknow.service.MatchResultCache;
+import com.skillbridge.lucknow.service.ProjectVersions;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ProjectSkillListener {
+
+    private final MatchResultCache matchResultCache;
+    private final OpenProjectIndex openProjectIndex;
+    private final ProjectSearchIndex projectSearchIndex;
+    private final ProjectVersions projectVersions;
+
+    public ProjectSkillListener(@Lazy MatchResultCache matchResultCache,
+                                @Lazy OpenProjectIndex openProjectIndex,
+                                @Lazy ProjectSearchIndex projectSearchIndex,
+                                @Lazy ProjectVersions projectVersions) {
+        this.matchResultCache = matchResultCache;
+        this.openProjectIndex = openProjectIndex;
+        this.projectSearchIndex = projectSearchIndex;
+        this.projectVersions = projectVersions;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(ProjectSkill projectSkill) {
+        long projectId = projectSkill.getProject().getId();
+        long skillId = projectSkill.getSkill().getId();
+        int importance = projectSkill.getImportance();
+        TransactionHooks.afterCommit(() -> {
+            openProjectIndex.putSkill(projectId, skillId, importance);
+            matchResultCache.invalidateProject(projectId);
+            projectVersions.changed(projectId);
+        });
+        reindex(projectId);
+    }
+
+    @PostRemove
+    public void onRemove(ProjectSkill projectSkill) {
+        long projectId = projectSkill.getProject().getId();
+        long skillId = projectSkill.getSkill().getId();
+        TransactionHooks.afterCommit(() -> {
+            openProjectIndex.removeSkill(projectId, skillId);
+            matchResultCache.invalidateProject(projectId);
+            projectVersions.changed(projectId);
+        });
+        reindex(projectId);
+    }
+
+    private void reindex(long projectId) {
+        TransactionHooks.afterCommitOnce(ProjectListener.searchKey(projectId),
+                () -> projectSearchIndex.requestRefresh(projectId));
+    }
+}
@@ -0,0 +1,32 @@
+package com.skillbridge.lucknow.listener;
+
+import com.skillbridge.lucknow.entity.Review;
+import com.skillbridge.lucknow.service.MatchResultCache;
+import com.skillbridge.lucknow.service.RatingSummaryService;
+import jakarta.persistence.PrePersist;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ReviewListener {
+
+    private final RatingSummaryService ratingSummaryService;
+    private final MatchResultCache matchResultCache;
+
+    public ReviewListener(@Lazy RatingSummaryService ratingSummaryService,
+                          @Lazy MatchResultCache matchResultCache) {
+        this.ratingSummaryService = ratingSummaryService;
+        this.matchResultCache = matchResultCache;
+    }
+
+    // PrePersist fires on persist() regardless of when the insert is flushed,
+    // so the summary update is always registered before the commit starts.
+    @PrePersist
+    public void onPersist(Review review) {
+        Long revieweeId = review.getReviewee().getId();
+        int rating = review.getRating();
+        TransactionHooks.beforeCommit(() ->
+                ratingSummaryService.recordRating(revieweeId, rating, review.getCreatedAt()));
+        TransactionHooks.afterCommit(() -> matchResultCache.invalidateStudent(revieweeId));
+    }
+}
@@ -0,0 +1,77 @@
+package com.skillbridge.lucknow.listener;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashSet;
+import java.util.Set;
+
+final class TransactionHooks {
+
+    private static final Object SCHEDULED_KEYS = new Object();
+
+    private TransactionHooks() {
+    }
+
+    /**
+     * Runs the action once the surrounding transaction commits, so in-memory
+     * state never reflects rows that were rolled back. Runs immediately when
+     * there is no transaction.
+     */
+    static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * Like {@link #afterCommit}, but registers at most one action per key and
+     * transaction, for work that is redone from scratch anyway (e.g. one
+     * reindex per project however many of its rows changed).
+     */
+    @SuppressWarnings("unchecked")
+    static void afterCommitOnce(Object key, Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        Set<Object> scheduled = (Set<Object>) TransactionSynchronizationManager.getResource(SCHEDULED_KEYS);
+        if (scheduled == null) {
+            scheduled = new HashSet<>();
+            TransactionSynchronizationManager.bindResource(SCHEDULED_KEYS, scheduled);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(SCHEDULED_KEYS);
+                }
+            });
+        }
+        if (scheduled.add(key)) {
+            afterCommit(action);
+        }
+    }
+
+    /**
+     * Runs the action inside the surrounding transaction just before it
+     * commits, so derived rows are written atomically with the change.
+     */
+    static void beforeCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,76 @@
+package com.skillbridge.lucknow.listener;
+
+import com.skillbridge.lucknow.entity.RoleName;
+import com.skillbridge.lucknow.entity.User;
+import com.skillbridge.lucknow.index.StudentSkillIndex;
+import com.skillbridge.lucknow.index.UserLocationIndex;
+import com.skillbridge.lucknow.security.CustomUserDetailsService;
+import com.skillbridge.lucknow.security.TokenVersionRegistry;
+import com.skillbridge.lucknow.service.MatchResultCache;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+@Component
+public class UserListener {
+
+    private final UserLocationIndex userLocationIndex;
+    private final StudentSkillIndex studentSkillIndex;
+    private final MatchResultCache matchResultCache;
+    private final TokenVersionRegistry tokenVersionRegistry;
+    private final CustomUserDetailsService userDetailsService;
+
+    public UserListener(@Lazy UserLocationIndex userLocationIndex,
+                        @Lazy StudentSkillIndex studentSkillIndex,
+                        @Lazy MatchResultCache matchResultCache,
+                        @Lazy TokenVersionRegistry tokenVersionRegistry,
+                        @Lazy CustomUserDetailsService userDetailsService) {
+        this.userLocationIndex = userLocationIndex;
+        this.studentSkillIndex = studentSkillIndex;
+        this.matchResultCache = matchResultCache;
+        this.tokenVersionRegistry = tokenVersionRegistry;
+        this.userDetailsService = userDetailsService;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(User user) {
+        long userId = user.getId();
+        String location = user.getLocation();
+        String email = user.getEmail();
+        long tokenVersion = user.getTokenVersion();
+        boolean rolesChanged = user.isRolesChanged();
+        boolean student = user.getRoles().stream().anyMatch(r -> r.getName() == RoleName.ROLE_STUDENT);
+        TransactionHooks.afterCommit(() -> {
+            // Password, roles or token version may have changed.
+            userDetailsService.invalidate(email);
+            tokenVersionRegistry.update(userId, tokenVersion);
+            // Most updates leave the location alone and need not touch any ranking.
+            if (userLocationIndex.put(userId, location)) {
+                matchResultCache.invalidateStudent(userId);
+            }
+            // Only students are matched; rankings are dropped for the skills held before and after.
+            if (rolesChanged) {
+                matchResultCache.invalidateStudent(userId);
+                studentSkillIndex.refreshStudent(userId, student);
+                matchResultCache.invalidateStudent(userId);
+            }
+        });
+    }
+
+    @PostRemove
+    public void onRemove(User user) {
+        long userId = user.getId();
+        String email = user.getEmail();
+        TransactionHooks.afterCommit(() -> {
+            userDetailsService.invalidate(email);
+            tokenVersionRegistry.remove(userId);
+            userLocationIndex.remove(userId);
+            // Invalidated while the index still knows the user's skills.
+            matchResultCache.invalidateStudent(userId);
+            studentSkillIndex.refreshStudent(userId, false);
+        });
+    }
+}
@@ -0,0 +1,66 @@
+package com.skillbridge.lucknow.listener;
+
+import com.skillbridge.lucknow.entity.RoleName;
+import com.skillbridge.lucknow.entity.User;
+import com.skillbridge.lucknow.entity.UserSkill;
+import com.skillbridge.lucknow.index.StudentSkillIndex;
+import com.skillbridge.lucknow.service.MatchResultCache;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+@Component
+public class UserSkillListener {
+
+    private final StudentSkillIndex studentSkillIndex;
+    private final MatchResultCache matchResultCache;
+
+    public UserSkillListener(@Lazy StudentSkillIndex studentSkillIndex,
+                             @Lazy MatchResultCache matchResultCache) {
+        this.studentSkillIndex = studentSkillIndex;
+        this.matchResultCache = matchResultCache;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(UserSkill userSkill) {
+        if (!isStudent(userSkill.getUser())) {
+            return;
+        }
+        long skillId = userSkill.getSkill().getId();
+        long studentId = userSkill.getUser().getId();
+        int proficiency = userSkill.getProficiency();
+        // Still the previous skill here: the entity's own callback updates it after the listeners ran.
+        Long previousSkillId = userSkill.getPersistedSkillId();
+        TransactionHooks.afterCommit(() -> {
+            if (previousSkillId != null && previousSkillId != skillId) {
+                studentSkillIndex.remove(previousSkillId, studentId);
+                matchResultCache.invalidateSkill(previousSkillId);
+            }
+            studentSkillIndex.put(skillId, studentId, proficiency);
+            matchResultCache.invalidateSkill(skillId);
+        });
+    }
+
+    @PostRemove
+    public void onRemove(UserSkill userSkill) {
+        if (!isStudent(userSkill.getUser())) {
+            return;
+        }
+        // The row may have been reassigned before it was deleted; the index holds the persisted skill.
+        long skillId = userSkill.getPersistedSkillId() != null
+                ? userSkill.getPersistedSkillId()
+                : userSkill.getSkill().getId();
+        long studentId = userSkill.getUser().getId();
+        TransactionHooks.afterCommit(() -> {
+            studentSkillIndex.remove(skillId, studentId);
+            matchResultCache.invalidateSkill(skillId);
+        });
+    }
+
+    private boolean isStudent(User user) {
+        return user.getRoles().stream().anyMatch(r -> r.getName() == RoleName.ROLE_STUDENT);
+    }
+}
@@ -0,0 +1,25 @@
+package com.skillbridge.lucknow.repository;
+
+import com.skillbridge.lucknow.entity.ProjectStatus;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Criteria of the faceted project filter; null or empty criteria are not
+ * applied. A project matches {@code anySkillIds} by requiring at least one
+ * of them and {@code allSkillIds} by requiring every one.
+ */
+public record ProjectFilter(ProjectStatus status,
+                            Collection<Long> anySkillIds,
+                            Collection<Long> allSkillIds,
+                            String location,
+                            Long ownerId,
+                            LocalDateTime createdAfter) {
+
+    public ProjectFilter {
+        anySkillIds = anySkillIds == null ? List.of() : List.copyOf(anySkillIds);
+        allSkillIds = allSkillIds == null ? List.of() : List.copyOf(allSkillIds);
+    }
+}
@@ -2,12 +2,64 @@ package com.skillbridge.lucknow.repository;
 
 import com.skillbridge.lucknow.entity.Project;
 import com.skillbridge.lucknow.entity.ProjectStatus;
+import com.skillbridge.lucknow.repository.projection.ProjectHeader;
+import com.skillbridge.lucknow.repository.projection.ProjectSetStamp;
+import com.skillbridge.lucknow.repository.projection.ProjectSummary;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
-public interface ProjectRepository extends JpaRepository<Project, Long> {
+public interface ProjectRepository extends JpaRepository<Project, Long>, ProjectRepositoryCustom {
 
     List<Project> findByStatus(ProjectStatus status);
-}
 
+    @Query("select p.id as id, p.title as title, p.location as location from Project p where p.status = :status")
+    List<ProjectHeader> findHeadersByStatus(@Param("status") ProjectStatus status);
+
+    /**
+     * How many projects have the status and when the latest of them changed;
+     * differs whenever a project enters, leaves or changes within the set.
+     */
+    @Query("select count(p) as count, max(p.updatedAt) as lastUpdated from Project p where p.status = :status")
+    ProjectSetStamp findSetStamp(@Param("status") ProjectStatus status);
+
+    @Query("select p.id as id, p.title as title, p.description as description, p.location as location, " +
+            "p.status as status, p.businessOwner.id as businessOwnerId, p.createdAt as createdAt, p.updatedAt as updatedAt " +
+            "from Project p where p.id = :id")
+    Optional<ProjectSummary> findSummaryById(@Param("id") Long id);
+
+    @Query("select p.id as id, p.title as title, p.description as description, p.location as location, " +
+            "p.status as status, p.businessOwner.id as businessOwnerId, p.createdAt as createdAt, p.updatedAt as updatedAt " +
+            "from Project p where p.id in :ids")
+    List<ProjectSummary> findSummariesByIds(@Param("ids") Collection<Long> ids);
+
+    @Query("select p.id as id, p.title as title, p.description as description, p.location as location, " +
+            "p.status as status, p.businessOwner.id as businessOwnerId, p.createdAt as createdAt, p.updatedAt as updatedAt " +
+            "from Project p")
+    List<ProjectSummary> findAllSummaries();
+
+    @Query("select p.id as id, p.title as title, p.description as description, p.location as location, " +
+            "p.status as status, p.businessOwner.id as businessOwnerId, p.createdAt as createdAt, p.updatedAt as updatedAt " +
+            "from Project p where p.status = :status " +
+            "order by p.createdAt desc, p.id desc")
+    List<ProjectSummary> findSummariesByStatus(@Param("status") ProjectStatus status, Pageable pageable);
+
+    /**
+     * The page following the (createdAt, id) keyset position, newest first.
+     */
+    @Query("select p.id as id, p.title as title, p.description as description, p.location as location, " +
+            "p.status as status, p.businessOwner.id as businessOwnerId, p.createdAt as createdAt, p.updatedAt as updatedAt " +
+            "from Project p where p.status = :status " +
+            "and (p.createdAt < :createdAt or (p.createdAt = :createdAt and p.id < :id)) " +
+            "order by p.createdAt desc, p.id desc")
+    List<ProjectSummary> findSummariesByStatusBefore(@Param("status") ProjectStatus status,
+                                                     @Param("createdAt") LocalDateTime createdAt,
+                                                     @Param("id") Long id,
+                                                     Pageable pageable);
+}
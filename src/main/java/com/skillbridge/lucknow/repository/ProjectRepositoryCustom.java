@@ -0,0 +1,27 @@
+package com.skillbridge.lucknow.repository;
+
+import com.skillbridge.lucknow.repository.projection.FacetCount;
+import com.skillbridge.lucknow.repository.projection.ProjectSummary;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ProjectRepositoryCustom {
+
+    String TOTAL_FACET = "total";
+    String STATUS_FACET = "status";
+    String LOCATION_FACET = "location";
+    String SKILL_FACET = "skill";
+
+    /**
+     * Up to {@code limit} matching projects newest first, resuming strictly
+     * after the (createdAt, id) keyset position when one is given.
+     */
+    List<ProjectSummary> findSummaries(ProjectFilter filter, LocalDateTime beforeCreatedAt, Long beforeId, int limit);
+
+    /**
+     * Counts over all matching projects in one statement: the total, per
+     * status, and the {@code limit} most frequent locations and skill ids.
+     */
+    List<FacetCount> countFacets(ProjectFilter filter, int limit);
+}
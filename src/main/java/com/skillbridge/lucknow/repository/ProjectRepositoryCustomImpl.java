@@ -0,0 +1,166 @@
+package com.skillbridge.lucknow.repository;
+
+import com.skillbridge.lucknow.entity.ProjectStatus;
+import com.skillbridge.lucknow.repository.projection.FacetCount;
+import com.skillbridge.lucknow.repository.projection.ProjectSummary;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+class ProjectRepositoryCustomImpl implements ProjectRepositoryCustom {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    ProjectRepositoryCustomImpl(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<ProjectSummary> findSummaries(ProjectFilter filter, LocalDateTime beforeCreatedAt, Long beforeId,
+                                              int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource("limit", limit);
+        StringBuilder sql = new StringBuilder(
+                "select p.id, p.title, p.description, p.location, p.status, p.business_id, p.created_at, p.updated_at " +
+                        "from projects p");
+        sql.append(where(filter, params));
+        if (beforeCreatedAt != null) {
+            sql.append(" and (p.created_at < :beforeCreatedAt or (p.created_at = :beforeCreatedAt and p.id < :beforeId))");
+            params.addValue("beforeCreatedAt", beforeCreatedAt).addValue("beforeId", beforeId);
+        }
+        sql.append(" order by p.created_at desc, p.id desc limit :limit");
+        return jdbcTemplate.query(sql.toString(), params, (rs, rowNum) -> new Summary(
+                rs.getLong("id"),
+                rs.getString("title"),
+                rs.getString("description"),
+                rs.getString("location"),
+                ProjectStatus.valueOf(rs.getString("status")),
+                rs.getLong("business_id"),
+                toLocalDateTime(rs.getTimestamp("created_at")),
+                toLocalDateTime(rs.getTimestamp("updated_at"))));
+    }
+
+    @Override
+    public List<FacetCount> countFacets(ProjectFilter filter, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource("limit", limit);
+        // The filter is evaluated once into the CTE; every facet aggregates that set. Facets skip null values,
+        // which would become null map keys; only the total row has none.
+        String sql = "with matched as (select p.id, p.status, p.location from projects p" + where(filter, params) + ") " +
+                "select '" + TOTAL_FACET + "' as facet, cast(null as char(100)) as facet_value, count(*) as hits from matched " +
+                "union all " +
+                "select '" + STATUS_FACET + "', status, count(*) from matched where status is not null group by status " +
+                "union all " +
+                "(select '" + LOCATION_FACET + "', location, count(*) from matched where location is not null " +
+                "group by location order by count(*) desc, location limit :limit) " +
+                "union all " +
+                "(select '" + SKILL_FACET + "', cast(ps.skill_id as char(20)), count(distinct m.id) " +
+                "from matched m join project_skills ps on ps.project_id = m.id " +
+                "group by ps.skill_id order by count(distinct m.id) desc, ps.skill_id limit :limit)";
+        return jdbcTemplate.query(sql, params, (rs, rowNum) ->
+                new FacetCount(rs.getString("facet"), rs.getString("facet_value"), rs.getLong("hits")));
+    }
+
+    private static String where(ProjectFilter filter, MapSqlParameterSource params) {
+        StringBuilder where = new StringBuilder(" where 1 = 1");
+        if (filter.status() != null) {
+            where.append(" and p.status = :status");
+            params.addValue("status", filter.status().name());
+        }
+        if (filter.location() != null) {
+            where.append(" and p.location = :location");
+            params.addValue("location", filter.location());
+        }
+        if (filter.ownerId() != null) {
+            where.append(" and p.business_id = :ownerId");
+            params.addValue("ownerId", filter.ownerId());
+        }
+        if (filter.createdAfter() != null) {
+            where.append(" and p.created_at > :createdAfter");
+            params.addValue("createdAfter", filter.createdAfter());
+        }
+        if (!filter.anySkillIds().isEmpty()) {
+            where.append(" and exists (select 1 from project_skills ps " +
+                    "where ps.project_id = p.id and ps.skill_id in (:anySkillIds))");
+            params.addValue("anySkillIds", filter.anySkillIds());
+        }
+        int k = 0;
+        for (Long skillId : filter.allSkillIds()) {
+            // One probe of (project_id, skill_id) per required skill.
+            String name = "allSkillId" + k++;
+            where.append(" and exists (select 1 from project_skills ps " +
+                    "where ps.project_id = p.id and ps.skill_id = :").append(name).append(")");
+            params.addValue(name, skillId);
+        }
+        return where.toString();
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+
+    private static final class Summary implements ProjectSummary {
+
+        private final Long id;
+        private final String title;
+        private final String description;
+        private final String location;
+        private final ProjectStatus status;
+        private final Long businessOwnerId;
+        private final LocalDateTime createdAt;
+        private final LocalDateTime updatedAt;
+
+        Summary(Long id, String title, String description, String location, ProjectStatus status,
+                Long businessOwnerId, LocalDateTime createdAt, LocalDateTime updatedAt) {
+            this.id = id;
+            this.title = title;
+            this.description = description;
+            this.location = location;
+            this.status = status;
+            this.businessOwnerId = businessOwnerId;
+            this.createdAt = createdAt;
+            this.updatedAt = updatedAt;
+        }
+
+        @Override
+        public Long getId() {
+            return id;
+        }
+
+        @Override
+        public String getTitle() {
+            return title;
+        }
+
+        @Override
+        public String getDescription() {
+            return description;
+        }
+
+        @Override
+        public String getLocation() {
+            return location;
+        }
+
+        @Override
+        public ProjectStatus getStatus() {
+            return status;
+        }
+
+        @Override
+        public Long getBusinessOwnerId() {
+            return businessOwnerId;
+        }
+
+        @Override
+        public LocalDateTime getCreatedAt() {
+            return createdAt;
+        }
+
+        @Override
+        public LocalDateTime getUpdatedAt() {
+            return updatedAt;
+        }
+    }
+}
@@ -2,12 +2,35 @@ package com.skillbridge.lucknow.repository;
 
 import com.skillbridge.lucknow.entity.Project;
 import com.skillbridge.lucknow.entity.ProjectSkill;
+import com.skillbridge.lucknow.entity.ProjectStatus;
+import com.skillbridge.lucknow.repository.projection.ProjectSkillPair;
+import com.skillbridge.lucknow.repository.projection.SkillWeight;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface ProjectSkillRepository extends JpaRepository<ProjectSkill, Long> {
 
     List<ProjectSkill> findByProject(Project project);
-}
 
+    @Query("select ps.skill.id as skillId, ps.importance as weight from ProjectSkill ps " +
+            "where ps.project.id = :projectId")
+    List<SkillWeight> findSkillWeightsByProjectId(@Param("projectId") Long projectId);
+
+    @Query("select ps.project.id as projectId, ps.skill.id as skillId, ps.importance as importance " +
+            "from ProjectSkill ps " +
+            "where ps.project.status = :status")
+    List<ProjectSkillPair> findSkillPairsByProjectStatus(@Param("status") ProjectStatus status);
+
+    @Query("select ps.project.id as projectId, ps.skill.id as skillId, ps.importance as importance " +
+            "from ProjectSkill ps " +
+            "where ps.project.id in :projectIds")
+    List<ProjectSkillPair> findSkillPairsByProjectIds(@Param("projectIds") Collection<Long> projectIds);
+
+    @Query("select ps.project.id as projectId, ps.skill.id as skillId, ps.importance as importance " +
+            "from ProjectSkill ps")
+    List<ProjectSkillPair> findAllSkillPairs();
+}
@@ -2,12 +2,17 @@ package com.skillbridge.lucknow.repository;
 
 import com.skillbridge.lucknow.entity.Role;
 import com.skillbridge.lucknow.entity.RoleName;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.util.Optional;
 
 public interface RoleRepository extends JpaRepository<Role, Long> {
 
+    // Roles are only written through JPA, which keeps the query cache's table timestamps current.
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Role> findByName(RoleName name);
 }
 
@@ -3,10 +3,11 @@ package com.skillbridge.lucknow.repository;
 import com.skillbridge.lucknow.entity.Skill;
 import org.springframework.data.jpa.repository.JpaRepository;
 
-import java.util.Optional;
+import java.util.Collection;
+import java.util.List;
 
-public interface SkillRepository extends JpaRepository<Skill, Long> {
+public interface SkillRepository extends JpaRepository<Skill, Long>, SkillRepositoryCustom {
 
-    Optional<Skill> findByName(String name);
+    List<Skill> findByNameIn(Collection<String> names);
 }
 
@@ -0,0 +1,22 @@
+package com.skillbridge.lucknow.repository;
+
+import com.skillbridge.lucknow.entity.Skill;
+
+import java.util.Collection;
+import java.util.Optional;
+
+public interface SkillRepositoryCustom {
+
+    /**
+     * Inserts the names in JDBC batches, leaving names that already exist
+     * (including ones inserted concurrently) untouched.
+     */
+    void insertMissing(Collection<String> names);
+
+    /**
+     * Looks the skill up by its natural id, so repeated lookups are answered
+     * from the second-level cache. A miss is not cached: names inserted by
+     * {@link #insertMissing} are found on the next call.
+     */
+    Optional<Skill> findByName(String name);
+}
@@ -0,0 +1,34 @@
+package com.skillbridge.lucknow.repository;
+
+import com.skillbridge.lucknow.entity.Skill;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Collection;
+import java.util.Optional;
+
+class SkillRepositoryCustomImpl implements SkillRepositoryCustom {
+
+    private static final int BATCH_SIZE = 100;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+
+    SkillRepositoryCustomImpl(JdbcTemplate jdbcTemplate, EntityManager entityManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public void insertMissing(Collection<String> names) {
+        jdbcTemplate.batchUpdate(
+                "insert into skills (name) values (?) on duplicate key update name = name",
+                names, BATCH_SIZE, (ps, name) -> ps.setString(1, name));
+    }
+
+    @Override
+    public Optional<Skill> findByName(String name) {
+        return entityManager.unwrap(Session.class).bySimpleNaturalId(Skill.class).loadOptional(name);
+    }
+}
@@ -0,0 +1,56 @@
+package com.skillbridge.lucknow.repository;
+
+import com.skillbridge.lucknow.entity.UserRatingSummary;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+// Native writes name the table they touch; otherwise Hibernate clears every second-level cache region.
+public interface UserRatingSummaryRepository extends JpaRepository<UserRatingSummary, Long> {
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "user_rating_summaries"))
+    @Query(value = "insert into user_rating_summaries (user_id, rating_sum, rating_count, last_review_at) " +
+            "values (:userId, :rating, 1, :reviewedAt) " +
+            "on duplicate key update rating_sum = rating_sum + :rating, rating_count = rating_count + 1, " +
+            "last_review_at = greatest(coalesce(last_review_at, :reviewedAt), :reviewedAt)",
+            nativeQuery = true)
+    void addRating(@Param("userId") Long userId,
+                   @Param("rating") int rating,
+                   @Param("reviewedAt") LocalDateTime reviewedAt);
+
+    /**
+     * Highest user id that has reviews or a summary; rebuilds walk the ids up to it.
+     */
+    @Query(value = "select greatest(coalesce((select max(reviewee_id) from reviews), 0), " +
+            "coalesce((select max(user_id) from user_rating_summaries), 0))",
+            nativeQuery = true)
+    long findMaxRatedUserId();
+
+    /**
+     * Overwrites the summaries of the users in [fromId, toId] with the
+     * aggregate of their reviews, in place, so readers never see them missing.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "user_rating_summaries"))
+    @Query(value = "insert into user_rating_summaries (user_id, rating_sum, rating_count, last_review_at) " +
+            "select reviewee_id, sum(rating), count(*), max(created_at) from reviews " +
+            "where reviewee_id between :fromId and :toId group by reviewee_id " +
+            "on duplicate key update rating_sum = values(rating_sum), rating_count = values(rating_count), " +
+            "last_review_at = values(last_review_at)",
+            nativeQuery = true)
+    void upsertSummariesFromReviews(@Param("fromId") long fromId, @Param("toId") long toId);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "user_rating_summaries"))
+    @Query(value = "delete from user_rating_summaries where user_id between :fromId and :toId " +
+            "and not exists (select 1 from reviews r where r.reviewee_id = user_rating_summaries.user_id)",
+            nativeQuery = true)
+    int deleteSummariesWithoutReviews(@Param("fromId") long fromId, @Param("toId") long toId);
+}
@@ -1,8 +1,15 @@
 package com.skillbridge.lucknow.repository;
 
 import com.skillbridge.lucknow.entity.User;
+import com.skillbridge.lucknow.repository.projection.CandidateProfile;
+import com.skillbridge.lucknow.repository.projection.UserLocation;
+import com.skillbridge.lucknow.repository.projection.UserTokenVersion;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
@@ -10,5 +17,22 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
 
     boolean existsByEmail(String email);
-}
 
+    @Query("select new com.skillbridge.lucknow.repository.projection.CandidateProfile(" +
+            "u.id, u.fullName, u.location, " +
+            "case when s.ratingCount > 0 then 1.0 * s.ratingSum / s.ratingCount else 0.0 end, " +
+            "coalesce(s.ratingCount, 0L)) " +
+            "from User u left join UserRatingSummary s on s.userId = u.id " +
+            "where u.id in :ids")
+    List<CandidateProfile> findCandidateProfiles(@Param("ids") Collection<Long> ids);
+
+    @Query("select u.id as id, u.location as location from User u where u.location is not null")
+    List<UserLocation> findAllLocations();
+
+    /**
+     * Users whose tokens have been revoked at least once; everyone else is
+     * still at version 0.
+     */
+    @Query("select u.id as id, u.tokenVersion as tokenVersion from User u where u.tokenVersion > 0")
+    List<UserTokenVersion> findRaisedTokenVersions();
+}
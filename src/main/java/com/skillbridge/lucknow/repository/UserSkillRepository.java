@@ -1,13 +1,24 @@
 package com.skillbridge.lucknow.repository;
 
+import com.skillbridge.lucknow.entity.RoleName;
 import com.skillbridge.lucknow.entity.User;
 import com.skillbridge.lucknow.entity.UserSkill;
+import com.skillbridge.lucknow.repository.projection.UserSkillPair;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
 public interface UserSkillRepository extends JpaRepository<UserSkill, Long> {
 
     List<UserSkill> findByUser(User user);
-}
 
+    @Query("select us.user.id as userId, us.skill.id as skillId, us.proficiency as proficiency from UserSkill us " +
+            "join us.user u join u.roles r where r.name = :role")
+    List<UserSkillPair> findSkillPairsByRole(@Param("role") RoleName role);
+
+    @Query("select us.user.id as userId, us.skill.id as skillId, us.proficiency as proficiency from UserSkill us " +
+            "where us.user.id = :userId")
+    List<UserSkillPair> findSkillPairsByUserId(@Param("userId") Long userId);
+}
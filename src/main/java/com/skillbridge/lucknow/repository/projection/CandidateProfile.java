@@ -0,0 +1,38 @@
+package com.skillbridge.lucknow.repository.projection;
+
+public class CandidateProfile {
+
+    private final long studentId;
+    private final String fullName;
+    private final String location;
+    private final double averageRating;
+    private final long reviewCount;
+
+    public CandidateProfile(Long studentId, String fullName, String location, Double averageRating, Long reviewCount) {
+        this.studentId = studentId;
+        this.fullName = fullName;
+        this.location = location;
+        this.averageRating = averageRating != null ? averageRating : 0.0;
+        this.reviewCount = reviewCount != null ? reviewCount : 0L;
+    }
+
+    public long getStudentId() {
+        return studentId;
+    }
+
+    public String getFullName() {
+        return fullName;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    public double getAverageRating() {
+        return averageRating;
+    }
+
+    public long getReviewCount() {
+        return reviewCount;
+    }
+}
@@ -0,0 +1,26 @@
+package com.skillbridge.lucknow.repository.projection;
+
+public class FacetCount {
+
+    private final String facet;
+    private final String value;
+    private final long count;
+
+    public FacetCount(String facet, String value, long count) {
+        this.facet = facet;
+        this.value = value;
+        this.count = count;
+    }
+
+    public String getFacet() {
+        return facet;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public long getCount() {
+        return count;
+    }
+}
@@ -0,0 +1,10 @@
+package com.skillbridge.lucknow.repository.projection;
+
+public interface ProjectHeader {
+
+    Long getId();
+
+    String getTitle();
+
+    String getLocation();
+}
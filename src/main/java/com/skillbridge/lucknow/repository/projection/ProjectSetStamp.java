@@ -0,0 +1,10 @@
+package com.skillbridge.lucknow.repository.projection;
+
+import java.time.LocalDateTime;
+
+public interface ProjectSetStamp {
+
+    long getCount();
+
+    LocalDateTime getLastUpdated();
+}
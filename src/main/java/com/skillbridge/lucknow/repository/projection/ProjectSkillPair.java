@@ -0,0 +1,10 @@
+package com.skillbridge.lucknow.repository.projection;
+
+public interface ProjectSkillPair {
+
+    Long getProjectId();
+
+    Long getSkillId();
+
+    Integer getImportance();
+}
@@ -0,0 +1,24 @@
+package com.skillbridge.lucknow.repository.projection;
+
+import com.skillbridge.lucknow.entity.ProjectStatus;
+
+import java.time.LocalDateTime;
+
+public interface ProjectSummary {
+
+    Long getId();
+
+    String getTitle();
+
+    String getDescription();
+
+    String getLocation();
+
+    ProjectStatus getStatus();
+
+    Long getBusinessOwnerId();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+}
@@ -0,0 +1,8 @@
+package com.skillbridge.lucknow.repository.projection;
+
+public interface SkillWeight {
+
+    Long getSkillId();
+
+    Integer getWeight();
+}
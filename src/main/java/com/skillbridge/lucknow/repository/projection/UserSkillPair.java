@@ -0,0 +1,10 @@
+package com.skillbridge.lucknow.repository.projection;
+
+public interface UserSkillPair {
+
+    Long getUserId();
+
+    Long getSkillId();
+
+    Integer getProficiency();
+}
@@ -0,0 +1,8 @@
+package com.skillbridge.lucknow.repository.projection;
+
+public interface UserTokenVersion {
+
+    Long getId();
+
+    long getTokenVersion();
+}
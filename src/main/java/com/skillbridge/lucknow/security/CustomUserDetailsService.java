@@ -1,40 +1,99 @@
 package com.skillbridge.lucknow.security;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.skillbridge.lucknow.config.ReadYourWrites;
 import com.skillbridge.lucknow.entity.User;
 import com.skillbridge.lucknow.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+/**
+ * Loads users by email through a bounded cache. Entries are dropped by the
+ * user entity listener when a user is saved or deleted, and expire after
+ * the TTL in any case, so changes made outside this instance are picked up
+ * too. Each call returns a new UserDetails: Spring Security erases the
+ * password on the object it authenticated.
+ */
 @Service
 public class CustomUserDetailsService implements UserDetailsService {
 
+    private record CachedUser(String email, String password, Set<GrantedAuthority> authorities) {
+    }
+
     private final UserRepository userRepository;
+    private final LoadingCache<String, CachedUser> users;
 
-    public CustomUserDetailsService(UserRepository userRepository) {
+    public CustomUserDetailsService(UserRepository userRepository,
+                                    @Value("${security.user-cache.max-size:10000}") long maxSize,
+                                    @Value("${security.user-cache.ttl:5m}") Duration ttl) {
         this.userRepository = userRepository;
+        this.users = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build(this::load);
     }
 
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email));
+        // A read-write transaction may be creating or changing this user; what it sees must not be cached.
+        CachedUser user = TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                ? load(email)
+                : users.get(email);
+        if (user == null) {
+            throw new UsernameNotFoundException("User not found with email: " + email);
+        }
+
+        return new org.springframework.security.core.userdetails.User(
+                user.email(),
+                user.password(),
+                user.authorities()
+        );
+    }
+
+    public void invalidate(String email) {
+        users.invalidate(email);
+    }
+
+    public Map<String, Object> cacheStats() {
+        CacheStats stats = users.stats();
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("size", users.estimatedSize());
+        body.put("hits", stats.hitCount());
+        body.put("misses", stats.missCount());
+        body.put("hitRate", stats.hitRate());
+        body.put("evictions", stats.evictionCount());
+        body.put("loads", stats.loadCount());
+        body.put("averageLoadMillis", stats.averageLoadPenalty() / 1_000_000.0);
+        return body;
+    }
+
+    private CachedUser load(String email) {
+        // Not authenticated yet, so name the user for replica stickiness.
+        User user = ReadYourWrites.actingAs(email, () -> userRepository.findByEmail(email)).orElse(null);
+        if (user == null) {
+            return null;
+        }
 
         Set<GrantedAuthority> authorities = user.getRoles().stream()
                 .map(role -> new SimpleGrantedAuthority(role.getName().name()))
-                .collect(Collectors.toSet());
+                .collect(Collectors.toUnmodifiableSet());
 
-        return new org.springframework.security.core.userdetails.User(
-                user.getEmail(),
-                user.getPassword(),
-                authorities
-        );
+        return new CachedUser(user.getEmail(), user.getPassword(), authorities);
     }
 }
-
@@ -4,8 +4,11 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
@@ -19,10 +22,17 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider tokenProvider;
     private final CustomUserDetailsService userDetailsService;
+    private final TokenVersionRegistry tokenVersionRegistry;
+    private final boolean stateless;
 
-    public JwtAuthenticationFilter(JwtTokenProvider tokenProvider, CustomUserDetailsService userDetailsService) {
+    public JwtAuthenticationFilter(JwtTokenProvider tokenProvider,
+                                   CustomUserDetailsService userDetailsService,
+                                   TokenVersionRegistry tokenVersionRegistry,
+                                   @Value("${security.jwt.stateless:false}") boolean stateless) {
         this.tokenProvider = tokenProvider;
         this.userDetailsService = userDetailsService;
+        this.tokenVersionRegistry = tokenVersionRegistry;
+        this.stateless = stateless;
     }
 
     @Override
@@ -32,10 +42,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         String jwt = getJwtFromRequest(request);
 
-        if (StringUtils.hasText(jwt) && tokenProvider.validateToken(jwt)) {
-            String email = tokenProvider.getEmailFromToken(jwt);
-            UserDetails userDetails = userDetailsService.loadUserByUsername(email);
-
+        VerifiedToken token = StringUtils.hasText(jwt) ? tokenProvider.verify(jwt) : null;
+        UserDetails userDetails = token != null ? loadPrincipal(token) : null;
+        if (userDetails != null) {
             UsernamePasswordAuthenticationToken authentication =
                     new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
             authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
@@ -45,6 +54,32 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * The token's user, or null when the token has been revoked. In
+     * stateless mode the user is built from the token's claims; otherwise,
+     * and for older tokens without a user id and version, the user is loaded
+     * from the database.
+     */
+    private UserDetails loadPrincipal(VerifiedToken token) {
+        if (token.userId() != null && token.version() != null) {
+            long current = tokenVersionRegistry.versionOf(token.userId());
+            if (token.version() < current) {
+                return null;
+            }
+            // Issued after a revocation this instance has not reloaded yet; the token itself proves it.
+            if (token.version() > current) {
+                tokenVersionRegistry.update(token.userId(), token.version());
+            }
+            if (stateless) {
+                return User.withUsername(token.email())
+                        .password("")
+                        .authorities(token.roles().stream().map(SimpleGrantedAuthority::new).toList())
+                        .build();
+            }
+        }
+        return userDetailsService.loadUserByUsername(token.email());
+    }
+
     private String getJwtFromRequest(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
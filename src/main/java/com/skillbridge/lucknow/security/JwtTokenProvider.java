@@ -1,6 +1,12 @@
 package com.skillbridge.lucknow.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
@@ -9,27 +15,74 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
 import java.util.Date;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Component
 public class JwtTokenProvider {
 
+    private static final String ROLES = "roles";
+    private static final String USER_ID = "uid";
+    private static final String VERSION = "ver";
+
     private final Key key;
     private final long jwtExpirationInMs;
+    private final JwtParser parser;
+
+    // Keyed by the token's SHA-256 so raw bearer tokens are not kept in memory.
+    // Entries expire with their token; failed verifications are not cached.
+    private final Cache<String, VerifiedToken> verified;
 
     public JwtTokenProvider(
             @Value("${security.jwt.secret}") String secret,
-            @Value("${security.jwt.expiration-ms}") long jwtExpirationInMs
+            @Value("${security.jwt.expiration-ms}") long jwtExpirationInMs,
+            @Value("${security.jwt.cache.max-size:10000}") long cacheMaxSize
     ) {
         byte[] keyBytes = Decoders.BASE64.decode(secret);
         this.key = Keys.hmacShaKeyFor(keyBytes);
         this.jwtExpirationInMs = jwtExpirationInMs;
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
+        this.verified = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfter(new Expiry<String, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(String hash, VerifiedToken token, long currentTime) {
+                        long remaining = Duration.between(Instant.now(), token.expiresAt()).toNanos();
+                        return Math.max(0, remaining);
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String hash, VerifiedToken token, long currentTime,
+                                                  long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String hash, VerifiedToken token, long currentTime,
+                                                long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
     }
 
-    public String generateToken(Authentication authentication) {
+    public String generateToken(Authentication authentication, long userId, long tokenVersion) {
         String email = authentication.getName();
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + jwtExpirationInMs);
@@ -40,33 +93,67 @@ public class JwtTokenProvider {
 
         return Jwts.builder()
                 .setSubject(email)
-                .claim("roles", roles)
+                .claim(ROLES, roles)
+                .claim(USER_ID, userId)
+                .claim(VERSION, tokenVersion)
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
                 .signWith(key, SignatureAlgorithm.HS256)
                 .compact();
     }
 
-    public String getEmailFromToken(String token) {
-        Claims claims = parseClaims(token);
-        return claims.getSubject();
+    /**
+     * Checks the token's signature and expiry once and returns its claims,
+     * or null when the token is invalid or expired. Tokens seen before are
+     * answered from the cache until they expire.
+     */
+    public VerifiedToken verify(String token) {
+        String hash = sha256(token);
+        VerifiedToken cached = verified.getIfPresent(hash);
+        if (cached != null) {
+            return cached;
+        }
+        VerifiedToken parsed;
+        try {
+            parsed = toVerifiedToken(parser.parseClaimsJws(token).getBody());
+        } catch (JwtException | IllegalArgumentException ex) {
+            return null;
+        }
+        if (parsed == null) {
+            return null;
+        }
+        verified.put(hash, parsed);
+        return parsed;
+    }
+
+    public Map<String, Object> cacheStats() {
+        CacheStats stats = verified.stats();
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("size", verified.estimatedSize());
+        body.put("hits", stats.hitCount());
+        body.put("misses", stats.missCount());
+        body.put("hitRate", stats.hitRate());
+        body.put("evictions", stats.evictionCount());
+        return body;
     }
 
-    public boolean validateToken(String token) {
-        try {
-            parseClaims(token);
-            return true;
-        } catch (Exception ex) {
-            return false;
+    private static VerifiedToken toVerifiedToken(Claims claims) {
+        // Tokens without a subject or expiry are not ours; an expired one was rejected by the parser.
+        if (claims.getSubject() == null || claims.getExpiration() == null) {
+            return null;
         }
+        String roles = claims.get(ROLES, String.class);
+        List<String> roleNames = StringUtils.hasText(roles) ? Arrays.asList(roles.split(",")) : List.of();
+        return new VerifiedToken(claims.getSubject(), List.copyOf(roleNames), claims.getExpiration().toInstant(),
+                claims.get(USER_ID, Long.class), claims.get(VERSION, Long.class));
     }
 
-    private Claims parseClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    private static String sha256(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
+        }
     }
 }
-
@@ -0,0 +1,117 @@
+package com.skillbridge.lucknow.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skillbridge.lucknow.config.RateLimitProperties;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UrlPathHelper;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Applies the {@link RateLimitProperties} rules to each request. Runs after
+ * {@link JwtAuthenticationFilter} so that per-user rules see the
+ * authenticated user. Every matching rule must grant a token; otherwise the
+ * request is answered with 429 and a Retry-After header.
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private record Rule(int index, PathPattern pattern, Set<String> methods, RateLimitProperties.Scope per,
+                        int capacity, long intervalNanos) {
+
+        boolean matches(String method, PathContainer path) {
+            return (methods.isEmpty() || methods.contains(method)) && pattern.matches(path);
+        }
+    }
+
+    private final RateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final List<Rule> rules;
+
+    public RateLimitFilter(RateLimiter rateLimiter, RateLimitProperties properties, ObjectMapper objectMapper) {
+        this.rateLimiter = rateLimiter;
+        this.objectMapper = objectMapper;
+        this.enabled = properties.enabled();
+        List<Rule> compiled = new ArrayList<>();
+        for (RateLimitProperties.Rule rule : properties.rules()) {
+            if (rule.capacity() < 1 || rule.refillPerMinute() < 1) {
+                throw new IllegalArgumentException("Rate limit for " + rule.pattern()
+                        + " needs a capacity and refill-per-minute of at least 1");
+            }
+            Set<String> methods = rule.methods() == null ? Set.of() : rule.methods().stream()
+                    .map(method -> method.toUpperCase(Locale.ROOT))
+                    .collect(Collectors.toUnmodifiableSet());
+            compiled.add(new Rule(compiled.size(), PathPatternParser.defaultInstance.parse(rule.pattern()), methods,
+                    rule.per(), rule.capacity(), RateLimiter.intervalNanos(rule.refillPerMinute())));
+        }
+        this.rules = List.copyOf(compiled);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || rules.isEmpty();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+
+        PathContainer path = PathContainer.parsePath(UrlPathHelper.defaultInstance.getPathWithinApplication(request));
+        for (Rule rule : rules) {
+            if (!rule.matches(request.getMethod(), path)) {
+                continue;
+            }
+            RateLimiter.BucketKey key = new RateLimiter.BucketKey(rule.index(), clientOf(request, rule.per()));
+            long waitNanos = rateLimiter.tryAcquire(key, rule.capacity(), rule.intervalNanos());
+            if (waitNanos > 0) {
+                reject(response, waitNanos);
+                return;
+            }
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private static String clientOf(HttpServletRequest request, RateLimitProperties.Scope per) {
+        if (per == RateLimitProperties.Scope.USER) {
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            if (authentication != null && authentication.isAuthenticated()
+                    && !(authentication instanceof AnonymousAuthenticationToken)) {
+                return "user:" + authentication.getName();
+            }
+        }
+        // Behind a proxy this is the forwarded client address when server.forward-headers-strategy is set.
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private void reject(HttpServletResponse response, long waitNanos) throws IOException {
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), Map.of("message", "Too many requests, please retry later"));
+    }
+}
@@ -0,0 +1,61 @@
+package com.skillbridge.lucknow.security;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token buckets keyed by rule and client. Each bucket is a single
+ * theoretical arrival time (the generic cell rate algorithm, equivalent to
+ * a token bucket) updated by compare-and-set, so taking a token never
+ * blocks. A bucket whose arrival time has passed is full and is dropped by
+ * the periodic sweep; recreating it later gives the same answer.
+ */
+@Component
+public class RateLimiter {
+
+    record BucketKey(int rule, String client) {
+    }
+
+    private final ConcurrentHashMap<BucketKey, AtomicLong> buckets = new ConcurrentHashMap<>();
+
+    /**
+     * Takes one token from the bucket, refilling at one token per
+     * {@code intervalNanos} up to {@code capacity}. Returns 0 when a token
+     * was taken, otherwise the nanoseconds until one is available.
+     */
+    public long tryAcquire(BucketKey key, int capacity, long intervalNanos) {
+        long burst = (capacity - 1) * intervalNanos;
+        AtomicLong bucket = buckets.computeIfAbsent(key, k -> new AtomicLong(System.nanoTime()));
+        while (true) {
+            long now = System.nanoTime();
+            long current = bucket.get();
+            long arrival = current - now < 0 ? now : current;
+            long wait = arrival - burst - now;
+            if (wait > 0) {
+                return wait;
+            }
+            if (bucket.compareAndSet(current, arrival + intervalNanos)) {
+                return 0;
+            }
+        }
+    }
+
+    // A request racing the removal may take its token from the dropped bucket: one extra request at most.
+    @Scheduled(fixedDelayString = "${rate-limit.sweep-interval-ms:60000}")
+    public void sweep() {
+        long now = System.nanoTime();
+        buckets.values().removeIf(bucket -> bucket.get() - now <= 0);
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+
+    static long intervalNanos(int refillPerMinute) {
+        return TimeUnit.MINUTES.toNanos(1) / Math.max(1, refillPerMinute);
+    }
+}
@@ -0,0 +1,64 @@
+package com.skillbridge.lucknow.security;
+
+import com.skillbridge.lucknow.repository.UserRepository;
+import com.skillbridge.lucknow.repository.projection.UserTokenVersion;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Current token version of users, so a token can be checked for revocation
+ * without a database round trip. Only users whose version was ever raised
+ * are kept; every other user is at version 0. Kept up to date by the user
+ * entity listener and reloaded periodically to pick up revocations made by
+ * other instances. Versions only grow, so a reload never undoes a newer
+ * local update, and entries are only dropped when a user is deleted here.
+ */
+@Component
+public class TokenVersionRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger(TokenVersionRegistry.class);
+
+    private final UserRepository userRepository;
+    private final ConcurrentHashMap<Long, Long> versions = new ConcurrentHashMap<>();
+
+    public TokenVersionRegistry(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    // Loaded before the server accepts requests.
+    @PostConstruct
+    public void load() {
+        reload();
+        log.info("Token versions loaded: {} users with revoked tokens", versions.size());
+    }
+
+    @Scheduled(fixedDelayString = "${security.jwt.version-refresh-ms:30000}",
+            initialDelayString = "${security.jwt.version-refresh-ms:30000}")
+    public void reload() {
+        for (UserTokenVersion row : userRepository.findRaisedTokenVersions()) {
+            update(row.getId(), row.getTokenVersion());
+        }
+    }
+
+    /**
+     * Current version of the user's tokens as far as this instance knows.
+     */
+    public long versionOf(long userId) {
+        return versions.getOrDefault(userId, 0L);
+    }
+
+    public void update(long userId, long version) {
+        if (version > 0) {
+            versions.merge(userId, version, Math::max);
+        }
+    }
+
+    public void remove(long userId) {
+        versions.remove(userId);
+    }
+}
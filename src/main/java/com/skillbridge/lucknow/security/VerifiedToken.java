@@ -0,0 +1,11 @@
+package com.skillbridge.lucknow.security;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Claims of a token whose signature and expiry have been checked. The user
+ * id and token version are null in tokens issued before they were added.
+ */
+public record VerifiedToken(String email, List<String> roles, Instant expiresAt, Long userId, Long version) {
+}
@@ -1,5 +1,6 @@
 package com.skillbridge.lucknow.service;
 
+import com.skillbridge.lucknow.config.ReadYourWrites;
 import com.skillbridge.lucknow.dto.AuthRequest;
 import com.skillbridge.lucknow.dto.AuthResponse;
 import com.skillbridge.lucknow.dto.RegisterRequest;
@@ -7,17 +8,20 @@ import com.skillbridge.lucknow.entity.Role;
 import com.skillbridge.lucknow.entity.RoleName;
 import com.skillbridge.lucknow.entity.User;
 import com.skillbridge.lucknow.exception.BadRequestException;
+import com.skillbridge.lucknow.exception.ResourceNotFoundException;
 import com.skillbridge.lucknow.repository.RoleRepository;
 import com.skillbridge.lucknow.repository.UserRepository;
 import com.skillbridge.lucknow.security.JwtTokenProvider;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Collections;
+import java.util.List;
 
 @Service
 public class AuthService {
@@ -42,6 +46,11 @@ public class AuthService {
 
     @Transactional
     public AuthResponse register(RegisterRequest request) {
+        // Attributes the write to the new user, whose next reads then skip a lagging replica.
+        return ReadYourWrites.actingAs(request.getEmail(), () -> createAccount(request));
+    }
+
+    private AuthResponse createAccount(RegisterRequest request) {
         if (userRepository.existsByEmail(request.getEmail())) {
             throw new BadRequestException("Email already in use");
         }
@@ -70,11 +79,11 @@ public class AuthService {
 
         userRepository.save(user);
 
-        Authentication authentication = authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(request.getEmail(), request.getPassword())
-        );
+        // The password was just hashed; verifying it again would only pay for a second BCrypt round.
+        Authentication authentication = UsernamePasswordAuthenticationToken.authenticated(
+                user.getEmail(), null, List.of(new SimpleGrantedAuthority(roleName.name())));
 
-        String token = tokenProvider.generateToken(authentication);
+        String token = tokenProvider.generateToken(authentication, user.getId(), user.getTokenVersion());
         return new AuthResponse(token, user.getId(), user.getFullName(), user.getEmail());
     }
 
@@ -83,11 +92,24 @@ public class AuthService {
                 new UsernamePasswordAuthenticationToken(request.getEmail(), request.getPassword())
         );
 
-        String token = tokenProvider.generateToken(authentication);
         User user = userRepository.findByEmail(request.getEmail())
                 .orElseThrow(() -> new BadRequestException("Invalid credentials"));
+        String token = tokenProvider.generateToken(authentication, user.getId(), user.getTokenVersion());
 
         return new AuthResponse(token, user.getId(), user.getFullName(), user.getEmail());
     }
+
+    /**
+     * Bumps the user's token version, so every token issued so far is
+     * rejected and the user has to log in again. Role changes through
+     * {@link User#setRoles} do this by themselves.
+     */
+    @Transactional
+    public long revokeTokens(Long userId) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+        user.setTokenVersion(user.getTokenVersion() + 1);
+        return user.getTokenVersion();
+    }
 }
 
@@ -0,0 +1,93 @@
+package com.skillbridge.lucknow.service;
+
+import com.skillbridge.lucknow.dto.MatchResult;
+import com.skillbridge.lucknow.index.Place;
+import com.skillbridge.lucknow.index.SkillCandidates;
+import com.skillbridge.lucknow.repository.projection.CandidateProfile;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Everything needed to score one project's candidates without further
+ * queries: positions align with {@link SkillCandidates}, and a position
+ * whose profile is missing (e.g. the user was deleted) is skipped. Student
+ * places are resolved once here rather than on every comparison.
+ */
+final class CandidatePool {
+
+    // Below this many candidates fork-join overhead outweighs the parallel speedup.
+    private static final int PARALLEL_THRESHOLD = 4096;
+
+    private final Place projectPlace;
+    private final SkillCandidates candidates;
+    private final CandidateProfile[] profiles;
+    private final Place[] places;
+    private final int maxOverlap;
+
+    CandidatePool(Place projectPlace, SkillCandidates candidates, CandidateProfile[] profiles, Place[] places,
+                  int maxOverlap) {
+        this.projectPlace = projectPlace;
+        this.candidates = candidates;
+        this.profiles = profiles;
+        this.places = places;
+        this.maxOverlap = maxOverlap;
+    }
+
+    /**
+     * Returns the best {@code limit} candidates ranking strictly below
+     * {@code after}, or from the top when {@code after} is null.
+     */
+    List<MatchResult> top(int limit, MatchCursor after) {
+        if (limit <= 0 || candidates.isEmpty()) {
+            return List.of();
+        }
+        IntStream positions = IntStream.range(0, candidates.size());
+        if (candidates.size() >= PARALLEL_THRESHOLD) {
+            positions = positions.parallel();
+        }
+        // Every fork-join worker allocates its own heap, so never size one beyond the pool.
+        int capacity = Math.min(limit, candidates.size());
+        TopCandidates top = positions.collect(
+                () -> new TopCandidates(capacity),
+                (heap, i) -> {
+                    if (profiles[i] == null) {
+                        return;
+                    }
+                    long studentId = candidates.idAt(i);
+                    double score = scoreAt(i);
+                    if (after == null || after.precedes(score, studentId)) {
+                        heap.offer(i, studentId, score);
+                    }
+                },
+                TopCandidates::addAll);
+
+        int[] ranked = top.drainBestFirst();
+        List<MatchResult> results = new ArrayList<>(ranked.length);
+        for (int i : ranked) {
+            results.add(resultAt(i));
+        }
+        return results;
+    }
+
+    private double scoreAt(int i) {
+        return MatchingService.matchScore(
+                MatchingService.skillMatchPercentage(candidates.weightedOverlapAt(i), maxOverlap),
+                profiles[i].getAverageRating(),
+                MatchingService.locationScore(projectPlace, places[i]));
+    }
+
+    private MatchResult resultAt(int i) {
+        CandidateProfile student = profiles[i];
+        double skillMatchPercentage = MatchingService.skillMatchPercentage(candidates.weightedOverlapAt(i), maxOverlap);
+        double locationScore = MatchingService.locationScore(projectPlace, places[i]);
+        return new MatchResult(
+                student.getStudentId(),
+                student.getFullName(),
+                MatchingService.matchScore(skillMatchPercentage, student.getAverageRating(), locationScore),
+                skillMatchPercentage,
+                student.getAverageRating(),
+                locationScore);
+    }
+}
@@ -0,0 +1,51 @@
+package com.skillbridge.lucknow.service;
+
+import com.skillbridge.lucknow.dto.MatchResult;
+import com.skillbridge.lucknow.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Keyset position in a ranking: the score and student id of the last entry a
+ * caller has seen. Encoded opaquely so clients cannot depend on its shape.
+ */
+final class MatchCursor {
+
+    private final double score;
+    private final long studentId;
+
+    private MatchCursor(double score, long studentId) {
+        this.score = score;
+        this.studentId = studentId;
+    }
+
+    static MatchCursor after(MatchResult last) {
+        return new MatchCursor(last.getMatchScore(), last.getStudentId());
+    }
+
+    static MatchCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(':');
+            double score = Double.longBitsToDouble(Long.parseUnsignedLong(raw.substring(0, separator), 16));
+            long studentId = Long.parseLong(raw.substring(separator + 1));
+            return new MatchCursor(score, studentId);
+        } catch (RuntimeException ex) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+
+    String encode() {
+        // Raw double bits keep the score exact across the round trip.
+        String raw = Long.toHexString(Double.doubleToLongBits(score)) + ":" + studentId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    boolean precedes(double otherScore, long otherStudentId) {
+        return TopCandidates.ranksAbove(score, studentId, otherScore, otherStudentId);
+    }
+}
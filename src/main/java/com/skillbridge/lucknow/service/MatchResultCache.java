@@ -0,0 +1,139 @@
+package com.skillbridge.lucknow.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.skillbridge.lucknow.dto.MatchResult;
+import com.skillbridge.lucknow.index.StudentSkillIndex;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Ranked match results per (project, limit, radius, scoring version). Entries
+ * remember the project's required skills so that skill and review changes only
+ * drop the rankings they can actually affect.
+ */
+@Component
+public class MatchResultCache {
+
+    private final Cache<Key, Entry> cache;
+    private final StudentSkillIndex studentSkillIndex;
+
+    // Bumped on every invalidation; a ranking computed across a bump is not stored.
+    private final AtomicLong generation = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public MatchResultCache(StudentSkillIndex studentSkillIndex,
+                            @Value("${matching.cache.max-size:10000}") long maxSize,
+                            @Value("${matching.cache.ttl:10m}") Duration ttl) {
+        this.studentSkillIndex = studentSkillIndex;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    public List<MatchResult> get(Long projectId, int limit, Double withinKm, int scoringVersion,
+                                 Supplier<Entry> loader) {
+        Key key = new Key(projectId, limit, withinKm, scoringVersion);
+        Entry cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached.results;
+        }
+        long startGeneration = generation.get();
+        Entry computed = loader.get();
+        // Checked under the key's lock: an invalidation bumps the generation before it sweeps, so either
+        // this sees the bump and skips the put, or the sweep finds and removes the entry.
+        cache.asMap().compute(key, (k, existing) -> generation.get() == startGeneration ? computed : existing);
+        return computed.results;
+    }
+
+    public void invalidateProject(long projectId) {
+        generation.incrementAndGet();
+        cache.asMap().keySet().removeIf(key -> {
+            boolean match = key.projectId == projectId;
+            if (match) {
+                invalidations.incrementAndGet();
+            }
+            return match;
+        });
+    }
+
+    public void invalidateSkill(long skillId) {
+        invalidateWhere(skillIds -> Arrays.binarySearch(skillIds, skillId) >= 0);
+    }
+
+    /**
+     * Drops rankings the student could appear in, i.e. those of projects
+     * requiring any skill the student holds.
+     */
+    public void invalidateStudent(long studentId) {
+        long[] studentSkills = studentSkillIndex.skillsOf(studentId);
+        if (studentSkills.length == 0) {
+            return;
+        }
+        invalidateWhere(skillIds -> intersects(skillIds, studentSkills));
+    }
+
+    public Map<String, Object> stats() {
+        CacheStats stats = cache.stats();
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("size", cache.estimatedSize());
+        body.put("hits", stats.hitCount());
+        body.put("misses", stats.missCount());
+        body.put("hitRate", stats.hitRate());
+        body.put("evictions", stats.evictionCount());
+        body.put("invalidations", invalidations.get());
+        return body;
+    }
+
+    private void invalidateWhere(Predicate<long[]> affected) {
+        generation.incrementAndGet();
+        cache.asMap().values().removeIf(entry -> {
+            boolean match = affected.test(entry.skillIds);
+            if (match) {
+                invalidations.incrementAndGet();
+            }
+            return match;
+        });
+    }
+
+    private static boolean intersects(long[] a, long[] b) {
+        int i = 0, j = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] == b[j]) {
+                return true;
+            }
+            if (a[i] < b[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return false;
+    }
+
+    private record Key(long projectId, int limit, Double withinKm, int scoringVersion) {
+    }
+
+    public static final class Entry {
+
+        private final long[] skillIds;
+        private final List<MatchResult> results;
+
+        public Entry(List<Long> requiredSkillIds, List<MatchResult> results) {
+            this.skillIds = requiredSkillIds.stream().mapToLong(Long::longValue).sorted().toArray();
+            this.results = List.copyOf(results);
+        }
+    }
+}
@@ -1,91 +1,212 @@
 package com.skillbridge.lucknow.service;
 
+import com.skillbridge.lucknow.dto.CursorPage;
+import com.skillbridge.lucknow.dto.MatchResult;
 import com.skillbridge.lucknow.entity.*;
+import com.skillbridge.lucknow.exception.BadRequestException;
+import com.skillbridge.lucknow.index.DenseSkillIds;
+import com.skillbridge.lucknow.index.Gazetteer;
+import com.skillbridge.lucknow.index.GeoPoint;
+import com.skillbridge.lucknow.index.Place;
+import com.skillbridge.lucknow.index.SkillCandidates;
+import com.skillbridge.lucknow.index.StudentSkillIndex;
+import com.skillbridge.lucknow.index.UserLocationIndex;
 import com.skillbridge.lucknow.repository.ProjectSkillRepository;
-import com.skillbridge.lucknow.repository.ReviewRepository;
 import com.skillbridge.lucknow.repository.UserRepository;
-import com.skillbridge.lucknow.repository.UserSkillRepository;
+import com.skillbridge.lucknow.repository.projection.CandidateProfile;
+import com.skillbridge.lucknow.repository.projection.SkillWeight;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
 @Service
 public class MatchingService {
 
+    // Part of every cached ranking's key; bump whenever the scoring formula changes.
+    static final int SCORING_VERSION = 3;
+
+    public static final int MAX_PAGE_SIZE = 100;
+
+    // Keeps each IN list well below driver and server placeholder limits.
+    private static final int PROFILE_BATCH_SIZE = 5000;
+
+    // Distance at which the location score halves: a student 50 km away scores 50.
+    static final double LOCATION_HALF_LIFE_KM = 50.0;
+
     private final UserRepository userRepository;
-    private final UserSkillRepository userSkillRepository;
     private final ProjectSkillRepository projectSkillRepository;
-    private final ReviewRepository reviewRepository;
+    private final StudentSkillIndex studentSkillIndex;
+    private final DenseSkillIds denseSkillIds;
+    private final MatchResultCache matchResultCache;
+    private final Gazetteer gazetteer;
+    private final UserLocationIndex userLocationIndex;
 
     public MatchingService(UserRepository userRepository,
-                           UserSkillRepository userSkillRepository,
                            ProjectSkillRepository projectSkillRepository,
-                           ReviewRepository reviewRepository) {
+                           StudentSkillIndex studentSkillIndex,
+                           DenseSkillIds denseSkillIds,
+                           MatchResultCache matchResultCache,
+                           Gazetteer gazetteer,
+                           UserLocationIndex userLocationIndex) {
         this.userRepository = userRepository;
-        this.userSkillRepository = userSkillRepository;
         this.projectSkillRepository = projectSkillRepository;
-        this.reviewRepository = reviewRepository;
+        this.studentSkillIndex = studentSkillIndex;
+        this.denseSkillIds = denseSkillIds;
+        this.matchResultCache = matchResultCache;
+        this.gazetteer = gazetteer;
+        this.userLocationIndex = userLocationIndex;
     }
 
-    public List<Map<String, Object>> matchCandidates(Project project, int limit) {
-        List<ProjectSkill> projectSkills = projectSkillRepository.findByProject(project);
-        Set<String> requiredSkillNames = projectSkills.stream()
-                .map(ps -> ps.getSkill().getName())
-                .collect(Collectors.toSet());
-
-        List<User> students = userRepository.findAll().stream()
-                .filter(u -> u.getRoles().stream().anyMatch(r -> r.getName() == RoleName.ROLE_STUDENT))
-                .collect(Collectors.toList());
-
-        List<Map<String, Object>> results = new ArrayList<>();
-        for (User student : students) {
-            List<UserSkill> userSkills = userSkillRepository.findByUser(student);
-            Set<String> studentSkills = userSkills.stream()
-                    .map(us -> us.getSkill().getName())
-                    .collect(Collectors.toSet());
-
-            if (studentSkills.isEmpty()) {
-                continue;
-            }
+    /**
+     * The best {@code limit} candidates (at most {@link #MAX_PAGE_SIZE}),
+     * only counting students within {@code withinKm} of the project when
+     * that is given.
+     */
+    public List<MatchResult> matchCandidates(Project project, int limit, Double withinKm) {
+        int topSize = clampPageSize(limit);
+        return matchResultCache.get(project.getId(), topSize, withinKm, SCORING_VERSION, () -> {
+            List<SkillWeight> requiredSkills = projectSkillRepository.findSkillWeightsByProjectId(project.getId());
+            List<Long> requiredSkillIds = requiredSkills.stream().map(SkillWeight::getSkillId).toList();
+            return new MatchResultCache.Entry(requiredSkillIds,
+                    loadPool(project, requiredSkills, withinKm).top(topSize, null));
+        });
+    }
 
-            long matched = studentSkills.stream()
-                    .filter(requiredSkillNames::contains)
-                    .count();
+    /**
+     * Returns one page of the ranking, resuming strictly after {@code cursor}.
+     * Cost depends on the candidate pool, not on how deep the caller has paged.
+     */
+    public CursorPage<MatchResult> matchPage(Project project, String cursor, int size, Double withinKm) {
+        MatchCursor after = MatchCursor.decode(cursor);
+        int pageSize = clampPageSize(size);
+        List<SkillWeight> requiredSkills = projectSkillRepository.findSkillWeightsByProjectId(project.getId());
+        List<MatchResult> items = loadPool(project, requiredSkills, withinKm).top(pageSize, after);
+        return new CursorPage<>(items, nextCursor(items, pageSize));
+    }
 
-            double skillMatchPercentage = requiredSkillNames.isEmpty()
-                    ? 0.0
-                    : (matched * 100.0) / requiredSkillNames.size();
+    /**
+     * Scores the candidate pool once and returns an iterator handing out the
+     * ranking page by page, so a caller can stream it without materializing it.
+     */
+    public Iterator<List<MatchResult>> matchPages(Project project, String cursor, int pageSize, Double withinKm) {
+        MatchCursor start = MatchCursor.decode(cursor);
+        List<SkillWeight> requiredSkills = projectSkillRepository.findSkillWeightsByProjectId(project.getId());
+        CandidatePool pool = loadPool(project, requiredSkills, withinKm);
+
+        return new Iterator<>() {
+            private MatchCursor after = start;
+            private List<MatchResult> next = pool.top(pageSize, after);
+
+            @Override
+            public boolean hasNext() {
+                return !next.isEmpty();
+            }
 
-            double averageRating = reviewRepository.findByReviewee(student).stream()
-                    .mapToInt(Review::getRating)
-                    .average()
-                    .orElse(0.0);
+            @Override
+            public List<MatchResult> next() {
+                if (next.isEmpty()) {
+                    throw new NoSuchElementException();
+                }
+                List<MatchResult> page = next;
+                if (page.size() < pageSize) {
+                    next = List.of();
+                } else {
+                    after = MatchCursor.after(page.get(page.size() - 1));
+                    next = pool.top(pageSize, after);
+                }
+                return page;
+            }
+        };
+    }
 
-            double locationScore = 0.0;
-            if (project.getLocation() != null && student.getLocation() != null &&
-                    project.getLocation().equalsIgnoreCase(student.getLocation())) {
-                locationScore = 100.0;
+    private CandidatePool loadPool(Project project, List<SkillWeight> requiredSkills, Double withinKm) {
+        int[] projectVector = denseSkillIds.vector(requiredSkills);
+        Place projectPlace = gazetteer.resolve(project.getLocation());
+        // Only students holding at least one required skill can score on skills at all.
+        SkillCandidates candidates = studentSkillIndex.candidatesFor(projectVector);
+        if (withinKm != null) {
+            // Cut the pool down before any profile is loaded or scored.
+            candidates = candidates.restrictTo(userLocationIndex.within(locatedPoint(projectPlace, withinKm), withinKm));
+        }
+        CandidateProfile[] profiles = loadProfiles(candidates);
+        // Pools repeat a few city names many times over; resolve each one once.
+        Map<String, Place> placesByLocation = new HashMap<>();
+        Place[] places = new Place[profiles.length];
+        for (int i = 0; i < profiles.length; i++) {
+            if (profiles[i] != null && profiles[i].getLocation() != null) {
+                places[i] = placesByLocation.computeIfAbsent(profiles[i].getLocation(), gazetteer::resolve);
             }
+        }
+        return new CandidatePool(projectPlace, candidates, profiles, places, maxOverlap(projectVector));
+    }
 
-            double matchScore = (skillMatchPercentage * 0.5)
-                    + (averageRating * 20 * 0.3) // rating 1-5 scaled to 0-100
-                    + (locationScore * 0.2);
-
-            Map<String, Object> entry = new HashMap<>();
-            entry.put("studentId", student.getId());
-            entry.put("fullName", student.getFullName());
-            entry.put("matchScore", matchScore);
-            entry.put("skillMatchPercentage", skillMatchPercentage);
-            entry.put("averageRating", averageRating);
-            entry.put("locationScore", locationScore);
-            results.add(entry);
+    private static GeoPoint locatedPoint(Place projectPlace, double withinKm) {
+        if (withinKm <= 0) {
+            throw new BadRequestException("withinKm must be positive");
+        }
+        if (projectPlace == null || !projectPlace.isLocated()) {
+            throw new BadRequestException("Project location is not a known place; cannot filter by distance");
         }
+        return projectPlace.point();
+    }
 
-        return results.stream()
-                .sorted((a, b) -> Double.compare((Double) b.get("matchScore"), (Double) a.get("matchScore")))
-                .limit(limit)
-                .collect(Collectors.toList());
+    /**
+     * The overlap a student holding every required skill at top proficiency
+     * would reach: sum of importances x {@link DenseSkillIds#MAX_WEIGHT}.
+     */
+    static int maxOverlap(int[] vector) {
+        return DenseSkillIds.totalWeight(vector) * DenseSkillIds.MAX_WEIGHT;
     }
-}
 
+    /**
+     * Share of the achievable importance x proficiency overlap, 0-100.
+     */
+    static double skillMatchPercentage(int weightedOverlap, int maxOverlap) {
+        return maxOverlap == 0 ? 0.0 : (weightedOverlap * 100.0) / maxOverlap;
+    }
+
+    /**
+     * 100 for the same place, halving every {@link #LOCATION_HALF_LIFE_KM}
+     * of distance. Places missing from the gazetteer only score when their
+     * normalized names are equal.
+     */
+    static double locationScore(Place projectPlace, Place studentPlace) {
+        if (projectPlace == null || studentPlace == null) {
+            return 0.0;
+        }
+        if (projectPlace.isLocated() && studentPlace.isLocated()) {
+            double distanceKm = projectPlace.point().distanceKm(studentPlace.point());
+            return 100.0 * Math.pow(0.5, distanceKm / LOCATION_HALF_LIFE_KM);
+        }
+        return projectPlace.key().equals(studentPlace.key()) ? 100.0 : 0.0;
+    }
+
+    static double matchScore(double skillMatchPercentage, double averageRating, double locationScore) {
+        return (skillMatchPercentage * 0.5)
+                + (averageRating * 20 * 0.3) // rating 1-5 scaled to 0-100
+                + (locationScore * 0.2);
+    }
+
+    private static int clampPageSize(int size) {
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
+
+    private static String nextCursor(List<MatchResult> items, int pageSize) {
+        return items.size() < pageSize ? null : MatchCursor.after(items.get(items.size() - 1)).encode();
+    }
+
+    private CandidateProfile[] loadProfiles(SkillCandidates candidates) {
+        CandidateProfile[] profiles = new CandidateProfile[candidates.size()];
+        List<Long> batch = new ArrayList<>(Math.min(candidates.size(), PROFILE_BATCH_SIZE));
+        for (int i = 0; i < candidates.size(); i++) {
+            batch.add(candidates.idAt(i));
+            if (batch.size() == PROFILE_BATCH_SIZE || i == candidates.size() - 1) {
+                for (CandidateProfile profile : userRepository.findCandidateProfiles(batch)) {
+                    profiles[candidates.positionOf(profile.getStudentId())] = profile;
+                }
+                batch.clear();
+            }
+        }
+        return profiles;
+    }
+}
@@ -0,0 +1,51 @@
+package com.skillbridge.lucknow.service;
+
+import com.skillbridge.lucknow.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * Keyset position in the newest-first project listing: the creation time and
+ * id of the last project a caller has seen.
+ */
+final class ProjectCursor {
+
+    private final LocalDateTime createdAt;
+    private final long projectId;
+
+    ProjectCursor(LocalDateTime createdAt, long projectId) {
+        this.createdAt = createdAt;
+        this.projectId = projectId;
+    }
+
+    static ProjectCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            // The ISO timestamp contains ':' itself, so split on the last one.
+            int separator = raw.lastIndexOf(':');
+            LocalDateTime createdAt = LocalDateTime.parse(raw.substring(0, separator));
+            long projectId = Long.parseLong(raw.substring(separator + 1));
+            return new ProjectCursor(createdAt, projectId);
+        } catch (RuntimeException ex) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+
+    String encode() {
+        String raw = createdAt + ":" + projectId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    long getProjectId() {
+        return projectId;
+    }
+}
@@ -1,91 +1,318 @@
 package com.skillbridge.lucknow.service;
 
+import com.skillbridge.lucknow.dto.BulkProjectResponse;
+import com.skillbridge.lucknow.dto.BulkProjectResult;
+import com.skillbridge.lucknow.dto.CursorPage;
+import com.skillbridge.lucknow.dto.ProjectFilterResponse;
 import com.skillbridge.lucknow.dto.ProjectRequest;
+import com.skillbridge.lucknow.dto.ProjectSearchHit;
 import com.skillbridge.lucknow.dto.ProjectResponse;
 import com.skillbridge.lucknow.entity.*;
 import com.skillbridge.lucknow.exception.BadRequestException;
 import com.skillbridge.lucknow.exception.ResourceNotFoundException;
+import com.skillbridge.lucknow.index.ProjectSearchIndex;
+import com.skillbridge.lucknow.index.SkillDictionary;
+import com.skillbridge.lucknow.repository.ProjectFilter;
 import com.skillbridge.lucknow.repository.ProjectRepository;
+import com.skillbridge.lucknow.repository.ProjectRepositoryCustom;
 import com.skillbridge.lucknow.repository.ProjectSkillRepository;
 import com.skillbridge.lucknow.repository.SkillRepository;
 import com.skillbridge.lucknow.repository.UserRepository;
+import com.skillbridge.lucknow.repository.projection.FacetCount;
+import com.skillbridge.lucknow.repository.projection.ProjectSkillPair;
+import com.skillbridge.lucknow.repository.projection.ProjectSummary;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 @Service
 public class ProjectService {
 
+    public static final int MAX_PAGE_SIZE = 100;
+    public static final int MAX_BULK_SIZE = 500;
+    // Values listed per location and skill facet.
+    static final int FACET_SIZE = 20;
+
     private final ProjectRepository projectRepository;
     private final SkillRepository skillRepository;
     private final ProjectSkillRepository projectSkillRepository;
     private final UserRepository userRepository;
+    private final ProjectSearchIndex projectSearchIndex;
+    private final SkillDictionary skillDictionary;
+    private final Validator validator;
 
     public ProjectService(ProjectRepository projectRepository,
                           SkillRepository skillRepository,
                           ProjectSkillRepository projectSkillRepository,
-                          UserRepository userRepository) {
+                          UserRepository userRepository,
+                          ProjectSearchIndex projectSearchIndex,
+                          SkillDictionary skillDictionary,
+                          Validator validator) {
         this.projectRepository = projectRepository;
         this.skillRepository = skillRepository;
         this.projectSkillRepository = projectSkillRepository;
         this.userRepository = userRepository;
+        this.projectSearchIndex = projectSearchIndex;
+        this.skillDictionary = skillDictionary;
+        this.validator = validator;
     }
 
     @Transactional
     public ProjectResponse createProject(ProjectRequest request) {
-        User business = getCurrentUser();
-        boolean isBusiness = business.getRoles().stream()
-                .anyMatch(r -> r.getName() == RoleName.ROLE_BUSINESS);
-        if (!isBusiness) {
-            throw new BadRequestException("Only business users can create projects");
+        User business = getBusinessUser();
+        Project project = newProject(request, business);
+        List<List<String>> skillNames = insertProjects(List.of(project), List.of(skillNames(request)));
+        return toResponse(project, skillNames.get(0));
+    }
+
+    /**
+     * Creates every valid project in one transaction and reports a result per
+     * item; invalid items are skipped without failing the rest. Skills are
+     * resolved for the whole batch at once; projects and required-skill rows
+     * are inserted in JDBC batches.
+     */
+    @Transactional
+    public BulkProjectResponse createProjects(List<ProjectRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new BadRequestException("No projects given");
+        }
+        if (requests.size() > MAX_BULK_SIZE) {
+            throw new BadRequestException("At most " + MAX_BULK_SIZE + " projects per request");
+        }
+        User business = getBusinessUser();
+
+        BulkProjectResult[] results = new BulkProjectResult[requests.size()];
+        List<Integer> positions = new ArrayList<>();
+        List<Project> projects = new ArrayList<>();
+        List<List<String>> skillNames = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            ProjectRequest request = requests.get(i);
+            Map<String, String> errors = validate(request);
+            if (!errors.isEmpty()) {
+                results[i] = BulkProjectResult.invalid(i, errors);
+                continue;
+            }
+            positions.add(i);
+            projects.add(newProject(request, business));
+            skillNames.add(skillNames(request));
+        }
+
+        List<List<String>> storedSkillNames = insertProjects(projects, skillNames);
+        for (int k = 0; k < projects.size(); k++) {
+            int i = positions.get(k);
+            results[i] = BulkProjectResult.created(i, toResponse(projects.get(k), storedSkillNames.get(k)));
+        }
+        return new BulkProjectResponse(Arrays.asList(results));
+    }
+
+    /**
+     * Saves the projects with their required skills and returns each
+     * project's skill names as stored, which may differ in spelling from the
+     * requested ones.
+     */
+    private List<List<String>> insertProjects(List<Project> projects, List<List<String>> skillNames) {
+        if (projects.isEmpty()) {
+            return List.of();
+        }
+        projectRepository.saveAll(projects);
+
+        List<String> allNames = new ArrayList<>();
+        skillNames.forEach(allNames::addAll);
+        Map<String, Long> skillIds = skillDictionary.resolve(allNames);
+        int importance = 5;
+        List<ProjectSkill> projectSkills = new ArrayList<>();
+        List<List<String>> storedNames = new ArrayList<>(projects.size());
+        for (int k = 0; k < projects.size(); k++) {
+            List<String> names = new ArrayList<>();
+            for (String skillName : skillNames.get(k)) {
+                long skillId = skillIds.get(SkillDictionary.key(skillName));
+                projectSkills.add(ProjectSkill.builder()
+                        .project(projects.get(k))
+                        .skill(skillRepository.getReferenceById(skillId))
+                        .importance(importance)
+                        .build());
+                names.add(skillDictionary.nameOf(skillId));
+            }
+            storedNames.add(names);
         }
+        projectSkillRepository.saveAll(projectSkills);
+        return storedNames;
+    }
 
-        Project project = Project.builder()
+    private Project newProject(ProjectRequest request, User business) {
+        LocalDateTime now = LocalDateTime.now();
+        return Project.builder()
                 .title(request.getTitle())
                 .description(request.getDescription())
                 .location(request.getLocation())
                 .status(ProjectStatus.OPEN)
                 .businessOwner(business)
-                .createdAt(LocalDateTime.now())
-                .updatedAt(LocalDateTime.now())
+                .createdAt(now)
+                .updatedAt(now)
                 .build();
-        projectRepository.save(project);
+    }
 
-        int importance = 5;
-        for (String skillName : request.getRequiredSkills()) {
-            Skill skill = skillRepository.findByName(skillName)
-                    .orElseGet(() -> skillRepository.save(
-                            Skill.builder().name(skillName).build()
-                    ));
-            ProjectSkill ps = ProjectSkill.builder()
-                    .project(project)
-                    .skill(skill)
-                    .importance(importance)
-                    .build();
-            projectSkillRepository.save(ps);
+    // Blank-free and without repeats, so a project never requires a skill twice.
+    private static List<String> skillNames(ProjectRequest request) {
+        Map<String, String> names = new LinkedHashMap<>();
+        for (String name : request.getRequiredSkills()) {
+            if (name != null && !name.isBlank()) {
+                names.putIfAbsent(SkillDictionary.key(name), SkillDictionary.normalize(name));
+            }
         }
+        return new ArrayList<>(names.values());
+    }
 
-        return toResponse(project);
+    private Map<String, String> validate(ProjectRequest request) {
+        Map<String, String> errors = new TreeMap<>();
+        if (request == null) {
+            errors.put("project", "must not be null");
+            return errors;
+        }
+        for (ConstraintViolation<ProjectRequest> violation : validator.validate(request)) {
+            errors.put(violation.getPropertyPath().toString(), violation.getMessage());
+        }
+        return errors;
     }
 
+    /**
+     * One page of open projects, newest first, resuming strictly after
+     * {@code cursor}. Costs two queries whatever the page or table size.
+     */
     @Transactional(readOnly = true)
-    public List<ProjectResponse> listOpenProjects() {
-        return projectRepository.findByStatus(ProjectStatus.OPEN)
-                .stream()
-                .map(this::toResponse)
-                .collect(Collectors.toList());
+    public CursorPage<ProjectResponse> listOpenProjects(String cursor, int size) {
+        ProjectCursor after = ProjectCursor.decode(cursor);
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        PageRequest limit = PageRequest.of(0, pageSize);
+        List<ProjectSummary> summaries = after == null
+                ? projectRepository.findSummariesByStatus(ProjectStatus.OPEN, limit)
+                : projectRepository.findSummariesByStatusBefore(
+                        ProjectStatus.OPEN, after.getCreatedAt(), after.getProjectId(), limit);
+        return new CursorPage<>(toResponses(summaries), nextCursor(summaries, pageSize));
+    }
+
+    /**
+     * One newest-first page of the projects matching every given criterion,
+     * with the total and facet counts over all matches. The counts are only
+     * computed for the first page; a client paging on keeps the ones it has.
+     * Skills are given by name; unknown names cannot match any project.
+     */
+    @Transactional(readOnly = true)
+    public ProjectFilterResponse filterProjects(ProjectStatus status, List<String> anySkills, List<String> allSkills,
+                                                String location, Long ownerId, LocalDateTime createdAfter,
+                                                String cursor, int size) {
+        ProjectCursor after = ProjectCursor.decode(cursor);
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        List<Long> anySkillIds = knownSkillIds(anySkills);
+        List<Long> allSkillIds = knownSkillIds(allSkills);
+        boolean unmatchable = (anySkills != null && !anySkills.isEmpty() && anySkillIds.isEmpty())
+                || (allSkills != null && allSkills.stream().anyMatch(name -> skillDictionary.idOf(name) == null));
+        if (unmatchable) {
+            return after == null
+                    ? new ProjectFilterResponse(List.of(), null, 0L, Map.of())
+                    : new ProjectFilterResponse(List.of(), null, null, null);
+        }
+        String place = location == null || location.isBlank() ? null : location.trim();
+        ProjectFilter filter = new ProjectFilter(status, anySkillIds, allSkillIds, place, ownerId, createdAfter);
+
+        List<ProjectSummary> summaries = projectRepository.findSummaries(filter,
+                after != null ? after.getCreatedAt() : null, after != null ? after.getProjectId() : null, pageSize);
+        if (after != null) {
+            return new ProjectFilterResponse(toResponses(summaries), nextCursor(summaries, pageSize), null, null);
+        }
+        long total = 0;
+        Map<String, Map<String, Long>> facets = new LinkedHashMap<>();
+        for (FacetCount count : projectRepository.countFacets(filter, FACET_SIZE)) {
+            if (ProjectRepositoryCustom.TOTAL_FACET.equals(count.getFacet())) {
+                total = count.getCount();
+                continue;
+            }
+            String value = ProjectRepositoryCustom.SKILL_FACET.equals(count.getFacet())
+                    ? skillDictionary.nameOf(Long.parseLong(count.getValue()))
+                    : count.getValue();
+            // A skill deleted since the query ran has no name left to list it under.
+            if (value == null) {
+                continue;
+            }
+            facets.computeIfAbsent(count.getFacet(), k -> new LinkedHashMap<>()).put(value, count.getCount());
+        }
+        return new ProjectFilterResponse(toResponses(summaries), nextCursor(summaries, pageSize), total, facets);
+    }
+
+    /**
+     * Keyword search over title, description and skill names, best match
+     * first. Served from the search index without touching the database.
+     */
+    public List<ProjectSearchHit> searchProjects(String query, List<String> skills, String location,
+                                                 ProjectStatus status, int limit) {
+        return projectSearchIndex.search(query, skills, location, status, Math.max(1, Math.min(limit, MAX_PAGE_SIZE)));
+    }
+
+    private List<Long> knownSkillIds(List<String> names) {
+        if (names == null) {
+            return List.of();
+        }
+        return names.stream().map(skillDictionary::idOf).filter(Objects::nonNull).distinct().toList();
+    }
+
+    /**
+     * Maps the summaries with one batched query for all their skills.
+     */
+    private List<ProjectResponse> toResponses(List<ProjectSummary> summaries) {
+        if (summaries.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, List<ProjectSkillPair>> skillsByProject = new HashMap<>();
+        List<Long> ids = summaries.stream().map(ProjectSummary::getId).collect(Collectors.toList());
+        for (ProjectSkillPair skill : projectSkillRepository.findSkillPairsByProjectIds(ids)) {
+            skillsByProject.computeIfAbsent(skill.getProjectId(), k -> new ArrayList<>()).add(skill);
+        }
+
+        List<ProjectResponse> items = new ArrayList<>(summaries.size());
+        for (ProjectSummary summary : summaries) {
+            items.add(toResponse(summary, skillsByProject.getOrDefault(summary.getId(), List.of())));
+        }
+        return items;
+    }
+
+    private static String nextCursor(List<ProjectSummary> summaries, int pageSize) {
+        if (summaries.size() < pageSize) {
+            return null;
+        }
+        ProjectSummary last = summaries.get(summaries.size() - 1);
+        return new ProjectCursor(last.getCreatedAt(), last.getId()).encode();
     }
 
     @Transactional(readOnly = true)
     public ProjectResponse getProject(Long id) {
-        Project project = projectRepository.findById(id)
+        ProjectSummary project = projectRepository.findSummaryById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Project not found"));
-        return toResponse(project);
+        return toResponse(project, projectSkillRepository.findSkillPairsByProjectIds(List.of(id)));
+    }
+
+    private User getBusinessUser() {
+        User business = getCurrentUser();
+        boolean isBusiness = business.getRoles().stream()
+                .anyMatch(r -> r.getName() == RoleName.ROLE_BUSINESS);
+        if (!isBusiness) {
+            throw new BadRequestException("Only business users can create projects");
+        }
+        return business;
     }
 
     private User getCurrentUser() {
@@ -98,7 +325,7 @@ public class ProjectService {
                 .orElseThrow(() -> new BadRequestException("User not found"));
     }
 
-    private ProjectResponse toResponse(Project project) {
+    private ProjectResponse toResponse(Project project, List<String> skills) {
         ProjectResponse res = new ProjectResponse();
         res.setId(project.getId());
         res.setTitle(project.getTitle());
@@ -106,12 +333,28 @@ public class ProjectService {
         res.setLocation(project.getLocation());
         res.setStatus(project.getStatus());
         res.setCreatedAt(project.getCreatedAt());
+        res.setUpdatedAt(project.getUpdatedAt());
         res.setBusinessOwnerId(project.getBusinessOwner() != null ? project.getBusinessOwner().getId() : null);
-        List<String> skills = project.getRequiredSkills().stream()
-                .map(ps -> ps.getSkill().getName())
-                .collect(Collectors.toList());
         res.setRequiredSkills(skills);
         return res;
     }
+
+    ProjectResponse toResponse(ProjectSummary summary, List<ProjectSkillPair> skills) {
+        List<String> skillNames = new ArrayList<>(skills.size());
+        for (ProjectSkillPair skill : skills) {
+            skillNames.add(skillDictionary.nameOf(skill.getSkillId()));
+        }
+        ProjectResponse res = new ProjectResponse();
+        res.setId(summary.getId());
+        res.setTitle(summary.getTitle());
+        res.setDescription(summary.getDescription());
+        res.setLocation(summary.getLocation());
+        res.setStatus(summary.getStatus());
+        res.setCreatedAt(summary.getCreatedAt());
+        res.setUpdatedAt(summary.getUpdatedAt());
+        res.setBusinessOwnerId(summary.getBusinessOwnerId());
+        res.setRequiredSkills(skillNames);
+        return res;
+    }
 }
 
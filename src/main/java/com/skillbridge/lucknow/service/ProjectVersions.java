@@ -0,0 +1,106 @@
+package com.skillbridge.lucknow.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.skillbridge.lucknow.entity.ProjectStatus;
+import com.skillbridge.lucknow.repository.ProjectRepository;
+import com.skillbridge.lucknow.repository.projection.ProjectSetStamp;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Entity tags for the project read endpoints. Tags are derived from persisted
+ * state only (a project's updatedAt, the open set's size and latest change),
+ * so every instance, before and after a restart, tags the same data alike.
+ * Recently issued tags are remembered to answer a matching If-None-Match
+ * without the database; they are dropped after every committed project or
+ * required-skill change here, and expire after a short ttl to pick up changes
+ * made through other instances.
+ */
+@Component
+public class ProjectVersions {
+
+    private final ProjectRepository projectRepository;
+
+    // Bumped on every change; a tag derived across a bump is not remembered.
+    private final AtomicLong generation = new AtomicLong();
+
+    private final Cache<Long, String> projectTags;
+    private final Cache<ProjectStatus, String> setTags;
+
+    public ProjectVersions(ProjectRepository projectRepository,
+                           @Value("${projects.etag-cache.max-size:10000}") long maxSize,
+                           @Value("${projects.etag-cache.ttl:30s}") Duration ttl) {
+        this.projectRepository = projectRepository;
+        this.projectTags = Caffeine.newBuilder().maximumSize(maxSize).expireAfterWrite(ttl).build();
+        this.setTags = Caffeine.newBuilder().expireAfterWrite(ttl).build();
+    }
+
+    /**
+     * Tag of the open-project listing. Read it before querying, so a response
+     * racing a change is tagged with the older state and refetched later.
+     */
+    public String openSetTag() {
+        String known = setTags.getIfPresent(ProjectStatus.OPEN);
+        if (known != null) {
+            return known;
+        }
+        long startGeneration = generation.get();
+        ProjectSetStamp stamp = projectRepository.findSetStamp(ProjectStatus.OPEN);
+        String tag = "\"open-" + stamp.getCount() + "-" + stampOf(stamp.getLastUpdated()) + "\"";
+        remember(setTags, ProjectStatus.OPEN, tag, startGeneration);
+        return tag;
+    }
+
+    /**
+     * The tag of a project served since its last change, or null.
+     */
+    public String knownTag(long projectId) {
+        return projectTags.getIfPresent(projectId);
+    }
+
+    /**
+     * Read before loading a project, and pass to {@link #tag}.
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * Tags a project loaded after {@code startGeneration} was read, and
+     * remembers the tag unless something changed in the meantime.
+     */
+    public String tag(long projectId, long startGeneration, LocalDateTime updatedAt) {
+        String tag = "\"" + projectId + "-" + stampOf(updatedAt) + "\"";
+        remember(projectTags, projectId, tag, startGeneration);
+        return tag;
+    }
+
+    public void changed(long projectId) {
+        generation.incrementAndGet();
+        projectTags.invalidate(projectId);
+        setTags.invalidateAll();
+    }
+
+    private <K> void remember(Cache<K, String> tags, K key, String tag, long startGeneration) {
+        tags.put(key, tag);
+        // A change between load and put has already bumped the generation; its tag must not linger.
+        if (generation.get() != startGeneration) {
+            tags.invalidate(key);
+        }
+    }
+
+    // Microseconds, the precision the timestamp columns keep.
+    private static String stampOf(LocalDateTime time) {
+        if (time == null) {
+            return "0";
+        }
+        long micros = time.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + time.getNano() / 1_000;
+        return Long.toString(micros, 36);
+    }
+}
@@ -0,0 +1,70 @@
+package com.skillbridge.lucknow.service;
+
+import com.skillbridge.lucknow.entity.UserRatingSummary;
+import com.skillbridge.lucknow.repository.UserRatingSummaryRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+@Service
+public class RatingSummaryService {
+
+    private static final Logger log = LoggerFactory.getLogger(RatingSummaryService.class);
+    // User ids recomputed per transaction; keeps the review rows locked by each step few and short-lived.
+    static final int REBUILD_CHUNK_SIZE = 1000;
+
+    private final UserRatingSummaryRepository summaryRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public RatingSummaryService(UserRatingSummaryRepository summaryRepository,
+                                PlatformTransactionManager transactionManager) {
+        this.summaryRepository = summaryRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Folds one new review into the reviewee's summary. Must run in the
+     * transaction that inserts the review.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordRating(Long userId, int rating, LocalDateTime reviewedAt) {
+        summaryRepository.addRating(userId, rating, reviewedAt != null ? reviewedAt : LocalDateTime.now());
+    }
+
+    @Transactional(readOnly = true)
+    public UserRatingSummary getSummary(Long userId) {
+        return summaryRepository.findById(userId)
+                .orElseGet(() -> UserRatingSummary.builder().userId(userId).build());
+    }
+
+    /**
+     * Recomputes every summary from the reviews table, repairing any drift
+     * from rows written outside this application. Summaries are overwritten
+     * in place, one range of user ids per transaction: reading a range's
+     * reviews locks them, so a review recorded concurrently is either
+     * included in the recomputed sum or added on top of it afterwards.
+     */
+    @Scheduled(cron = "${ratings.rebuild-cron:-}")
+    public int rebuild() {
+        long maxUserId = summaryRepository.findMaxRatedUserId();
+        int dropped = 0;
+        for (long fromId = 0; fromId <= maxUserId; fromId += REBUILD_CHUNK_SIZE) {
+            long from = fromId;
+            long to = fromId + REBUILD_CHUNK_SIZE - 1;
+            dropped += transactionTemplate.execute(status -> {
+                summaryRepository.upsertSummariesFromReviews(from, to);
+                return summaryRepository.deleteSummariesWithoutReviews(from, to);
+            });
+        }
+        int rebuilt = (int) summaryRepository.count();
+        log.info("Rebuilt {} rating summaries from reviews, dropped {} without reviews", rebuilt, dropped);
+        return rebuilt;
+    }
+}
@@ -0,0 +1,100 @@
+package com.skillbridge.lucknow.service;
+
+import com.skillbridge.lucknow.dto.ProjectRecommendation;
+import com.skillbridge.lucknow.entity.User;
+import com.skillbridge.lucknow.exception.BadRequestException;
+import com.skillbridge.lucknow.index.DenseSkillIds;
+import com.skillbridge.lucknow.index.Gazetteer;
+import com.skillbridge.lucknow.index.OpenProjectIndex;
+import com.skillbridge.lucknow.index.OpenProjectIndex.OpenProject;
+import com.skillbridge.lucknow.index.Place;
+import com.skillbridge.lucknow.index.SkillCandidates;
+import com.skillbridge.lucknow.index.StudentSkillIndex;
+import com.skillbridge.lucknow.repository.UserRepository;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Ranks open projects for a student with the same formula the business side
+ * uses to rank students, so both directions agree on a pair's score.
+ */
+@Service
+public class RecommendationService {
+
+    private final UserRepository userRepository;
+    private final StudentSkillIndex studentSkillIndex;
+    private final OpenProjectIndex openProjectIndex;
+    private final RatingSummaryService ratingSummaryService;
+    private final Gazetteer gazetteer;
+
+    public RecommendationService(UserRepository userRepository,
+                                 StudentSkillIndex studentSkillIndex,
+                                 OpenProjectIndex openProjectIndex,
+                                 RatingSummaryService ratingSummaryService,
+                                 Gazetteer gazetteer) {
+        this.userRepository = userRepository;
+        this.studentSkillIndex = studentSkillIndex;
+        this.openProjectIndex = openProjectIndex;
+        this.ratingSummaryService = ratingSummaryService;
+        this.gazetteer = gazetteer;
+    }
+
+    public List<ProjectRecommendation> recommendForCurrentStudent(int limit) {
+        User student = getCurrentUser();
+        SkillCandidates matches = openProjectIndex.projectsFor(studentSkillIndex.vectorOf(student.getId()));
+        if (matches.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        double averageRating = ratingSummaryService.getSummary(student.getId()).getAverageRating();
+        Place studentPlace = gazetteer.resolve(student.getLocation());
+
+        OpenProject[] projects = new OpenProject[matches.size()];
+        // Capped like a match page, and never larger than the candidate list.
+        int capacity = Math.min(Math.min(limit, MatchingService.MAX_PAGE_SIZE), matches.size());
+        TopCandidates top = new TopCandidates(capacity);
+        for (int i = 0; i < matches.size(); i++) {
+            OpenProject project = openProjectIndex.get(matches.idAt(i));
+            if (project == null || project.getTotalImportance() == 0) {
+                continue;
+            }
+            projects[i] = project;
+            double skillMatchPercentage = MatchingService.skillMatchPercentage(
+                    matches.weightedOverlapAt(i), project.getTotalImportance() * DenseSkillIds.MAX_WEIGHT);
+            double locationScore =
+                    MatchingService.locationScore(gazetteer.resolve(project.getLocation()), studentPlace);
+            top.offer(i, project.getId(),
+                    MatchingService.matchScore(skillMatchPercentage, averageRating, locationScore));
+        }
+
+        int[] ranked = top.drainBestFirst();
+        List<ProjectRecommendation> results = new ArrayList<>(ranked.length);
+        for (int i : ranked) {
+            OpenProject project = projects[i];
+            double skillMatchPercentage = MatchingService.skillMatchPercentage(
+                    matches.weightedOverlapAt(i), project.getTotalImportance() * DenseSkillIds.MAX_WEIGHT);
+            double locationScore =
+                    MatchingService.locationScore(gazetteer.resolve(project.getLocation()), studentPlace);
+            results.add(new ProjectRecommendation(
+                    project.getId(),
+                    project.getTitle(),
+                    project.getLocation(),
+                    MatchingService.matchScore(skillMatchPercentage, averageRating, locationScore),
+                    skillMatchPercentage,
+                    locationScore));
+        }
+        return results;
+    }
+
+    private User getCurrentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            throw new BadRequestException("No authenticated user");
+        }
+        return userRepository.findByEmail(authentication.getName())
+                .orElseThrow(() -> new BadRequestException("User not found"));
+    }
+}
@@ -0,0 +1,110 @@
+package com.skillbridge.lucknow.service;
+
+/**
+ * Bounded min-heap keeping the best {@code capacity} candidates seen so far,
+ * ordered by score descending and then student id ascending. Entries are kept
+ * in parallel primitive arrays so offering a candidate never allocates.
+ */
+final class TopCandidates {
+
+    private final int capacity;
+    private final double[] scores;
+    private final long[] studentIds;
+    private final int[] positions;
+    private int size;
+
+    TopCandidates(int capacity) {
+        this.capacity = capacity;
+        this.scores = new double[capacity];
+        this.studentIds = new long[capacity];
+        this.positions = new int[capacity];
+    }
+
+    void offer(int position, long studentId, double score) {
+        if (capacity == 0) {
+            return;
+        }
+        if (size < capacity) {
+            set(size, position, studentId, score);
+            siftUp(size++);
+        } else if (ranksAbove(score, studentId, scores[0], studentIds[0])) {
+            set(0, position, studentId, score);
+            siftDown(0);
+        }
+    }
+
+    void addAll(TopCandidates other) {
+        for (int i = 0; i < other.size; i++) {
+            offer(other.positions[i], other.studentIds[i], other.scores[i]);
+        }
+    }
+
+    /**
+     * Empties the heap and returns the candidate positions best-first.
+     */
+    int[] drainBestFirst() {
+        int[] ranked = new int[size];
+        for (int i = size - 1; i >= 0; i--) {
+            ranked[i] = positions[0];
+            size--;
+            if (size > 0) {
+                set(0, positions[size], studentIds[size], scores[size]);
+                siftDown(0);
+            }
+        }
+        return ranked;
+    }
+
+    static boolean ranksAbove(double score, long studentId, double otherScore, long otherStudentId) {
+        int cmp = Double.compare(score, otherScore);
+        return cmp > 0 || (cmp == 0 && studentId < otherStudentId);
+    }
+
+    private void siftUp(int i) {
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (!ranksAbove(scores[parent], studentIds[parent], scores[i], studentIds[i])) {
+                break;
+            }
+            swap(i, parent);
+            i = parent;
+        }
+    }
+
+    private void siftDown(int i) {
+        while (true) {
+            int left = 2 * i + 1;
+            if (left >= size) {
+                break;
+            }
+            int worst = left;
+            int right = left + 1;
+            if (right < size && ranksAbove(scores[left], studentIds[left], scores[right], studentIds[right])) {
+                worst = right;
+            }
+            if (!ranksAbove(scores[i], studentIds[i], scores[worst], studentIds[worst])) {
+                break;
+            }
+            swap(i, worst);
+            i = worst;
+        }
+    }
+
+    private void set(int slot, int position, long studentId, double score) {
+        positions[slot] = position;
+        studentIds[slot] = studentId;
+        scores[slot] = score;
+    }
+
+    private void swap(int a, int b) {
+        double score = scores[a];
+        scores[a] = scores[b];
+        scores[b] = score;
+        long studentId = studentIds[a];
+        studentIds[a] = studentIds[b];
+        studentIds[b] = studentId;
+        int position = positions[a];
+        positions[a] = positions[b];
+        positions[b] = position;
+    }
+}
@@ -0,0 +1,93 @@
+package com.skillbridge.lucknow.index;
+
+import com.skillbridge.lucknow.repository.projection.SkillWeight;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DenseSkillIdsTest {
+
+    private final DenseSkillIds denseSkillIds = new DenseSkillIds();
+
+    @Test
+    void assignsDenseIdsInFirstSeenOrder() {
+        assertThat(denseSkillIds.denseId(9001)).isZero();
+        assertThat(denseSkillIds.denseId(17)).isEqualTo(1);
+        assertThat(denseSkillIds.denseId(9001)).isZero();
+        assertThat(denseSkillIds.skillId(1)).isEqualTo(17);
+    }
+
+    @Test
+    void growsPastTheInitialTable() {
+        for (long skillId = 0; skillId < 200; skillId++) {
+            denseSkillIds.denseId(1_000_000 + skillId);
+        }
+
+        assertThat(denseSkillIds.skillId(199)).isEqualTo(1_000_199);
+    }
+
+    @Test
+    void packsDenseIdAndWeight() {
+        int packed = DenseSkillIds.pack(123_456, 4);
+
+        assertThat(DenseSkillIds.denseOf(packed)).isEqualTo(123_456);
+        assertThat(DenseSkillIds.weightOf(packed)).isEqualTo(4);
+    }
+
+    @Test
+    void clampsWeightsIntoOneToFive() {
+        assertThat(DenseSkillIds.weightOf(DenseSkillIds.pack(3, 0))).isEqualTo(1);
+        assertThat(DenseSkillIds.weightOf(DenseSkillIds.pack(3, -7))).isEqualTo(1);
+        assertThat(DenseSkillIds.weightOf(DenseSkillIds.pack(3, 9))).isEqualTo(DenseSkillIds.MAX_WEIGHT);
+    }
+
+    @Test
+    void vectorIsSortedBySkillAndKeepsTheHighestWeightOfARepeat() {
+        denseSkillIds.denseId(50);
+        denseSkillIds.denseId(60);
+
+        int[] vector = denseSkillIds.vector(List.of(weight(60, 2), weight(50, 3), weight(60, 5), weight(60, 1)));
+
+        assertThat(vector).containsExactly(DenseSkillIds.pack(0, 3), DenseSkillIds.pack(1, 5));
+        assertThat(DenseSkillIds.totalWeight(vector)).isEqualTo(8);
+    }
+
+    @Test
+    void emptyVector() {
+        assertThat(denseSkillIds.vector(List.of())).isEmpty();
+        assertThat(new DenseSkillIds.VectorBuilder().build()).isEmpty();
+        assertThat(DenseSkillIds.totalWeight(new int[0])).isZero();
+    }
+
+    @Test
+    void vectorBuilderGrowsAndDeduplicates() {
+        DenseSkillIds.VectorBuilder builder = new DenseSkillIds.VectorBuilder();
+        for (int dense = 9; dense >= 0; dense--) {
+            builder.add(DenseSkillIds.pack(dense, 1));
+            builder.add(DenseSkillIds.pack(dense, 2));
+        }
+
+        int[] vector = builder.build();
+        assertThat(vector).hasSize(10);
+        for (int dense = 0; dense < 10; dense++) {
+            assertThat(DenseSkillIds.denseOf(vector[dense])).isEqualTo(dense);
+            assertThat(DenseSkillIds.weightOf(vector[dense])).isEqualTo(2);
+        }
+    }
+
+    private static SkillWeight weight(long skillId, int weight) {
+        return new SkillWeight() {
+            @Override
+            public Long getSkillId() {
+                return skillId;
+            }
+
+            @Override
+            public Integer getWeight() {
+                return weight;
+            }
+        };
+    }
+}
@@ -0,0 +1,113 @@
+package com.skillbridge.lucknow.index;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostingTableTest {
+
+    @Test
+    void joinOverAnEmptyTableFindsNothing() {
+        PostingTable table = new PostingTable();
+
+        assertThat(table.join(new int[]{DenseSkillIds.pack(0, 5), DenseSkillIds.pack(7, 1)}).isEmpty()).isTrue();
+        assertThat(table.join(new int[0]).isEmpty()).isTrue();
+    }
+
+    @Test
+    void joinSkipsEmptyAndMissingPostings() {
+        PostingTable table = PostingTable.of(new Posting[]{null, posting(10, 2), Posting.EMPTY});
+
+        SkillCandidates candidates = table.join(new int[]{
+                DenseSkillIds.pack(0, 1), DenseSkillIds.pack(1, 3), DenseSkillIds.pack(2, 1), DenseSkillIds.pack(9, 1)});
+
+        assertThat(candidates.size()).isEqualTo(1);
+        assertThat(candidates.idAt(0)).isEqualTo(10);
+        assertThat(candidates.matchedCountAt(0)).isEqualTo(1);
+        assertThat(candidates.weightedOverlapAt(0)).isEqualTo(6);
+    }
+
+    @Test
+    void joinCountsSharedSkillsAndSumsWeightedOverlap() {
+        PostingTable table = PostingTable.of(new Posting[]{
+                posting(1, 5, 3, 1, 8, 2),
+                posting(3, 4, 5, 5, 8, 1),
+                posting(2, 1, 9, 3)});
+
+        SkillCandidates candidates = table.join(new int[]{
+                DenseSkillIds.pack(0, 2), DenseSkillIds.pack(1, 3), DenseSkillIds.pack(2, 1)});
+
+        assertThat(candidates.size()).isEqualTo(6);
+        long[] ids = {1, 2, 3, 5, 8, 9};
+        int[] counts = {1, 1, 2, 1, 2, 1};
+        int[] overlaps = {10, 1, 2 + 12, 15, 4 + 3, 3};
+        for (int i = 0; i < ids.length; i++) {
+            assertThat(candidates.idAt(i)).isEqualTo(ids[i]);
+            assertThat(candidates.matchedCountAt(i)).isEqualTo(counts[i]);
+            assertThat(candidates.weightedOverlapAt(i)).isEqualTo(overlaps[i]);
+        }
+        assertThat(candidates.positionOf(8)).isEqualTo(4);
+        assertThat(candidates.positionOf(4)).isNegative();
+    }
+
+    @Test
+    void restrictToKeepsOnlyListedIds() {
+        PostingTable table = PostingTable.of(new Posting[]{posting(1, 1, 4, 2, 6, 3)});
+
+        SkillCandidates restricted = table.join(new int[]{DenseSkillIds.pack(0, 1)}).restrictTo(new long[]{0, 4, 5, 6});
+
+        assertThat(restricted.size()).isEqualTo(2);
+        assertThat(restricted.idAt(0)).isEqualTo(4);
+        assertThat(restricted.idAt(1)).isEqualTo(6);
+        assertThat(restricted.weightedOverlapAt(1)).isEqualTo(3);
+        assertThat(restricted.restrictTo(new long[0]).isEmpty()).isTrue();
+    }
+
+    @Test
+    void updateGrowsTheTableAndClearsEmptiedSlots() {
+        PostingTable table = new PostingTable();
+        table.update(40, posting -> posting.with(7, 4));
+
+        assertThat(table.get(40).size()).isEqualTo(1);
+        assertThat(table.get(39).size()).isZero();
+        assertThat(table.get(1000).size()).isZero();
+
+        table.update(40, posting -> posting.without(7));
+        assertThat(table.get(40)).isSameAs(Posting.EMPTY);
+    }
+
+    @Test
+    void postingUpdatesKeepIdsSortedAndReplaceWeights() {
+        Posting posting = Posting.EMPTY.with(5, 1).with(2, 2).with(9, 3).with(5, 4);
+
+        assertThat(posting.ids).containsExactly(2, 5, 9);
+        assertThat(posting.weights).containsExactly(2, 4, 3);
+        assertThat(posting.without(5).ids).containsExactly(2, 9);
+        assertThat(posting.without(6)).isSameAs(posting);
+    }
+
+    @Test
+    void builderSortsAndKeepsTheHighestWeightOfARepeatedId() {
+        Posting.Builder builder = new Posting.Builder();
+        for (int id = 20; id > 0; id--) {
+            builder.add(id, 1);
+        }
+        builder.add(7, 5);
+        builder.add(7, 2);
+
+        Posting posting = builder.build();
+        assertThat(posting.size()).isEqualTo(20);
+        assertThat(posting.ids[0]).isEqualTo(1);
+        assertThat(posting.weights[6]).isEqualTo((byte) 5);
+        assertThat(new Posting.Builder().build().size()).isZero();
+    }
+
+    // Alternating id, weight pairs in ascending id order.
+    private static Posting posting(long... idWeights) {
+        Posting posting = Posting.EMPTY;
+        for (int i = 0; i < idWeights.length; i += 2) {
+            posting = posting.with(idWeights[i], (int) idWeights[i + 1]);
+        }
+        return posting;
+    }
+}
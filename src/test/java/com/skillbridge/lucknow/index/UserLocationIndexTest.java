@@ -0,0 +1,117 @@
+package com.skillbridge.lucknow.index;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserLocationIndexTest {
+
+    private static final String PLACES = String.join("\n",
+            "# name,state,latitude,longitude,aliases",
+            "Lucknow,Uttar Pradesh,26.8467,80.9462,lko",
+            "Kanpur,Uttar Pradesh,26.4499,80.3319,",
+            "South Cell,Test,26.99,80.9462,",
+            "North Cell,Test,27.01,80.9462,",
+            "West Edge,Test,0.0,179.9,",
+            "East Edge,Test,0.0,-179.9,",
+            "Far East,Test,0.0,-170.0,");
+
+    private Gazetteer gazetteer;
+    private UserLocationIndex index;
+
+    @BeforeEach
+    void setUp() {
+        gazetteer = new Gazetteer(new ByteArrayResource(PLACES.getBytes(StandardCharsets.UTF_8)), 100);
+        gazetteer.load();
+        // Only rebuild() reads users; the tests fill the index through put().
+        index = new UserLocationIndex(null, gazetteer);
+    }
+
+    @Test
+    void findsUsersWithinTheRadiusOnly() {
+        index.put(1, "Lucknow");
+        index.put(2, "Kanpur");
+        index.put(3, "Somewhere unknown");
+
+        assertThat(index.within(point("Lucknow"), 10)).containsExactly(1);
+        // Kanpur is about 74 km from Lucknow.
+        assertThat(index.within(point("Lucknow"), 100)).containsExactly(1, 2);
+        assertThat(index.pointOf(3)).isNull();
+    }
+
+    @Test
+    void usersSharingAPointComeBackSorted() {
+        index.put(30, "Lucknow");
+        index.put(10, "lko");
+        index.put(20, "Lucknow, UP");
+
+        assertThat(index.within(point("Lucknow"), 1)).containsExactly(10, 20, 30);
+    }
+
+    @Test
+    void radiusReachesAcrossACellBoundary() {
+        // 26.99 and 27.01 fall in different 0.5 degree cells, about 2.2 km apart.
+        index.put(1, "South Cell");
+        index.put(2, "North Cell");
+
+        assertThat(index.within(point("South Cell"), 3)).containsExactly(1, 2);
+        assertThat(index.within(point("North Cell"), 1)).containsExactly(2);
+    }
+
+    @Test
+    void radiusReachesAcrossTheAntimeridian() {
+        // 179.9 E and 179.9 W are about 22 km apart on the equator.
+        index.put(1, "West Edge");
+        index.put(2, "East Edge");
+        index.put(3, "Far East");
+
+        assertThat(index.within(point("West Edge"), 30)).containsExactly(1, 2);
+        assertThat(index.within(point("East Edge"), 30)).containsExactly(1, 2);
+    }
+
+    @Test
+    void radiusCirclingTheEarthListsEveryUserOnce() {
+        index.put(1, "Lucknow");
+        index.put(2, "West Edge");
+        index.put(3, "East Edge");
+
+        assertThat(index.within(point("Lucknow"), 25_000)).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    void movingAndRemovingUsersUpdatesTheirCells() {
+        assertThat(index.put(1, "Lucknow")).isTrue();
+        assertThat(index.put(1, "lko")).isFalse();
+        assertThat(index.put(1, "Kanpur")).isTrue();
+
+        assertThat(index.within(point("Lucknow"), 10)).isEmpty();
+        assertThat(index.within(point("Kanpur"), 10)).containsExactly(1);
+
+        assertThat(index.put(1, "nowhere known")).isTrue();
+        assertThat(index.within(point("Kanpur"), 10)).isEmpty();
+
+        index.put(2, "Kanpur");
+        index.remove(2);
+        index.remove(2);
+        assertThat(index.within(point("Kanpur"), 10)).isEmpty();
+    }
+
+    @Test
+    void longitudeRangesSplitAtTheAntimeridian() {
+        int first = (int) Math.floor(-180 / UserLocationIndex.CELL_DEGREES);
+        int last = (int) Math.floor(180 / UserLocationIndex.CELL_DEGREES);
+
+        assertThat(UserLocationIndex.lonCellRanges(80.9, 0.2)).containsExactly(161, 162);
+        assertThat(UserLocationIndex.lonCellRanges(179.9, 0.3)).containsExactly(359, last, first, -360);
+        assertThat(UserLocationIndex.lonCellRanges(-179.9, 0.3)).containsExactly(359, last, first, -360);
+        assertThat(UserLocationIndex.lonCellRanges(0, 179.9)).containsExactly(first, last);
+    }
+
+    private GeoPoint point(String location) {
+        return gazetteer.locate(location);
+    }
+}
@@ -0,0 +1,63 @@
+package com.skillbridge.lucknow.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimiterTest {
+
+    private static final long HOUR = TimeUnit.HOURS.toNanos(1);
+
+    private final RateLimiter limiter = new RateLimiter();
+
+    @Test
+    void allowsABurstOfCapacityThenReportsTheWait() {
+        RateLimiter.BucketKey key = new RateLimiter.BucketKey(0, "client");
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(limiter.tryAcquire(key, 3, HOUR)).isZero();
+        }
+        long wait = limiter.tryAcquire(key, 3, HOUR);
+        assertThat(wait).isPositive().isLessThanOrEqualTo(HOUR);
+        assertThat(limiter.tryAcquire(key, 3, HOUR)).isPositive();
+    }
+
+    @Test
+    void capacityOfOneAllowsASingleRequest() {
+        RateLimiter.BucketKey key = new RateLimiter.BucketKey(0, "client");
+
+        assertThat(limiter.tryAcquire(key, 1, HOUR)).isZero();
+        assertThat(limiter.tryAcquire(key, 1, HOUR)).isPositive();
+    }
+
+    @Test
+    void bucketsAreKeyedByRuleAndClient() {
+        limiter.tryAcquire(new RateLimiter.BucketKey(0, "a"), 1, HOUR);
+
+        assertThat(limiter.tryAcquire(new RateLimiter.BucketKey(0, "b"), 1, HOUR)).isZero();
+        assertThat(limiter.tryAcquire(new RateLimiter.BucketKey(1, "a"), 1, HOUR)).isZero();
+        assertThat(limiter.tryAcquire(new RateLimiter.BucketKey(0, "a"), 1, HOUR)).isPositive();
+        assertThat(limiter.size()).isEqualTo(3);
+    }
+
+    @Test
+    void sweepDropsRefilledBucketsOnly() throws InterruptedException {
+        limiter.tryAcquire(new RateLimiter.BucketKey(0, "refilled"), 5, 1);
+        limiter.tryAcquire(new RateLimiter.BucketKey(0, "drained"), 1, HOUR);
+        Thread.sleep(1);
+
+        limiter.sweep();
+
+        assertThat(limiter.size()).isEqualTo(1);
+        assertThat(limiter.tryAcquire(new RateLimiter.BucketKey(0, "drained"), 1, HOUR)).isPositive();
+        assertThat(limiter.tryAcquire(new RateLimiter.BucketKey(0, "refilled"), 1, HOUR)).isZero();
+    }
+
+    @Test
+    void intervalSpreadsTheRefillOverAMinute() {
+        assertThat(RateLimiter.intervalNanos(60)).isEqualTo(TimeUnit.SECONDS.toNanos(1));
+        assertThat(RateLimiter.intervalNanos(0)).isEqualTo(TimeUnit.MINUTES.toNanos(1));
+    }
+}
@@ -0,0 +1,69 @@
+package com.skillbridge.lucknow.service;
+
+import com.skillbridge.lucknow.dto.MatchResult;
+import com.skillbridge.lucknow.exception.BadRequestException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MatchCursorTest {
+
+    @Test
+    void roundTripKeepsTheExactScore() {
+        double score = 0.1 + 0.2;
+        MatchCursor cursor = MatchCursor.decode(MatchCursor.after(result(42, score)).encode());
+
+        // Anything ranked strictly below (score, 42) follows; the entry itself does not.
+        assertThat(cursor.precedes(score, 43)).isTrue();
+        assertThat(cursor.precedes(score, 42)).isFalse();
+        assertThat(cursor.precedes(Math.nextUp(score), 99)).isFalse();
+        assertThat(cursor.precedes(Math.nextDown(score), 1)).isTrue();
+    }
+
+    @Test
+    void blankTokenMeansFromTheTop() {
+        assertThat(MatchCursor.decode(null)).isNull();
+        assertThat(MatchCursor.decode(" ")).isNull();
+    }
+
+    @Test
+    void malformedTokenIsABadRequest() {
+        assertThatThrownBy(() -> MatchCursor.decode("not a cursor")).isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> MatchCursor.decode("bm8tc2VwYXJhdG9y")).isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    void pagesThroughTiesWithoutSkippingOrRepeating() {
+        // Scores 3, 3, 3, 2, 2, 2, 2, 1 with ties straddling every page boundary.
+        double[] scores = {2, 3, 1, 3, 2, 2, 3, 2};
+        List<Long> seen = new ArrayList<>();
+        MatchCursor after = null;
+        while (true) {
+            TopCandidates page = new TopCandidates(3);
+            for (int i = 0; i < scores.length; i++) {
+                if (after == null || after.precedes(scores[i], i + 1)) {
+                    page.offer(i, i + 1, scores[i]);
+                }
+            }
+            int[] ranked = page.drainBestFirst();
+            if (ranked.length == 0) {
+                break;
+            }
+            for (int i : ranked) {
+                seen.add((long) i + 1);
+            }
+            int last = ranked[ranked.length - 1];
+            after = MatchCursor.decode(MatchCursor.after(result(last + 1, scores[last])).encode());
+        }
+
+        assertThat(seen).containsExactly(2L, 4L, 7L, 1L, 5L, 6L, 8L, 3L);
+    }
+
+    private static MatchResult result(long studentId, double score) {
+        return new MatchResult(studentId, "Student " + studentId, score, 0, 0, 0);
+    }
+}
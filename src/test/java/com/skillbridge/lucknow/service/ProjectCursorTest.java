@@ -0,0 +1,50 @@
+package com.skillbridge.lucknow.service;
+
+import com.skillbridge.lucknow.exception.BadRequestException;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ProjectCursorTest {
+
+    @Test
+    void roundTripsMicrosecondTimestamps() {
+        assertRoundTrip(LocalDateTime.of(2026, 10, 18, 11, 38, 21, 692_881_000), 1358);
+    }
+
+    @Test
+    void roundTripsTimestampsWithZeroSeconds() {
+        // Printed as "2026-10-18T11:38", without the seconds field.
+        assertRoundTrip(LocalDateTime.of(2026, 10, 18, 11, 38), 7);
+        assertRoundTrip(LocalDateTime.of(2026, 1, 1, 0, 0), Long.MAX_VALUE);
+    }
+
+    @Test
+    void roundTripsTimestampsWithZeroSecondsButNanos() {
+        assertRoundTrip(LocalDateTime.of(2026, 10, 18, 11, 38, 0, 1_000), 7);
+    }
+
+    @Test
+    void blankTokenMeansFromTheTop() {
+        assertThat(ProjectCursor.decode(null)).isNull();
+        assertThat(ProjectCursor.decode("")).isNull();
+    }
+
+    @Test
+    void malformedTokenIsABadRequest() {
+        assertThatThrownBy(() -> ProjectCursor.decode("%%%")).isInstanceOf(BadRequestException.class);
+        // "2026-10-18T11:38:x" decodes but names no project.
+        assertThatThrownBy(() -> ProjectCursor.decode("MjAyNi0xMC0xOFQxMTozODp4"))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    private static void assertRoundTrip(LocalDateTime createdAt, long projectId) {
+        ProjectCursor decoded = ProjectCursor.decode(new ProjectCursor(createdAt, projectId).encode());
+
+        assertThat(decoded.getCreatedAt()).isEqualTo(createdAt);
+        assertThat(decoded.getProjectId()).isEqualTo(projectId);
+    }
+}
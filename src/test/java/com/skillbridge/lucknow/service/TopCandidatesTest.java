@@ -0,0 +1,80 @@
+package com.skillbridge.lucknow.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TopCandidatesTest {
+
+    @Test
+    void limitAbovePoolReturnsEveryCandidateBestFirst() {
+        TopCandidates top = new TopCandidates(10);
+        top.offer(0, 5, 40.0);
+        top.offer(1, 6, 90.0);
+        top.offer(2, 7, 65.0);
+
+        assertThat(top.drainBestFirst()).containsExactly(1, 2, 0);
+    }
+
+    @Test
+    void keepsOnlyTheBestAndBreaksTiesByLowerStudentId() {
+        TopCandidates top = new TopCandidates(3);
+        top.offer(0, 30, 50.0);
+        top.offer(1, 10, 50.0);
+        top.offer(2, 20, 50.0);
+        top.offer(3, 5, 10.0);
+        top.offer(4, 40, 80.0);
+        top.offer(5, 1, 50.0);
+
+        // 80 first, then the two lowest student ids among the ties at 50.
+        assertThat(top.drainBestFirst()).containsExactly(4, 5, 1);
+    }
+
+    @Test
+    void zeroCapacityKeepsNothing() {
+        TopCandidates top = new TopCandidates(0);
+        top.offer(0, 1, 99.0);
+
+        assertThat(top.drainBestFirst()).isEmpty();
+    }
+
+    @Test
+    void drainingEmptiesTheHeap() {
+        TopCandidates top = new TopCandidates(2);
+        top.offer(0, 1, 1.0);
+        top.drainBestFirst();
+
+        assertThat(top.drainBestFirst()).isEmpty();
+    }
+
+    @Test
+    void mergedHeapsMatchOneHeapOverEverything() {
+        Random random = new Random(42);
+        TopCandidates all = new TopCandidates(25);
+        TopCandidates left = new TopCandidates(25);
+        TopCandidates right = new TopCandidates(25);
+        List<double[]> offered = new ArrayList<>();
+        for (int position = 0; position < 1000; position++) {
+            // Few distinct scores, so ties are common.
+            double score = random.nextInt(20);
+            long studentId = 1000 - position;
+            offered.add(new double[]{position, studentId, score});
+            all.offer(position, studentId, score);
+            (position % 2 == 0 ? left : right).offer(position, studentId, score);
+        }
+        left.addAll(right);
+
+        int[] expected = offered.stream()
+                .sorted(Comparator.<double[]>comparingDouble(c -> c[2]).reversed().thenComparingDouble(c -> c[1]))
+                .limit(25)
+                .mapToInt(c -> (int) c[0])
+                .toArray();
+        assertThat(all.drainBestFirst()).containsExactly(expected);
+        assertThat(left.drainBestFirst()).containsExactly(expected);
+    }
+}